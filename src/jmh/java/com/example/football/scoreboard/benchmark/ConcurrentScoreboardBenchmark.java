@@ -0,0 +1,71 @@
+package com.example.football.scoreboard.benchmark;
+
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of a shared Scoreboard on ConcurrentMatchStorage under concurrent feeds and readers
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentScoreboardBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int storedMatches;
+
+    private Scoreboard scoreboard;
+
+    private String[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new Scoreboard(new ConcurrentMatchStorage());
+        matchIds = StoredMatches.start(scoreboard, storedMatches);
+    }
+
+    private String randomMatchId() {
+        return matchIds[ThreadLocalRandom.current().nextInt(matchIds.length)];
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateMatchScore() {
+        scoreboard.updateMatchScore(randomMatchId(), ThreadLocalRandom.current().nextInt(10), 0);
+    }
+
+    // Score feeds and display readers running side by side
+    @Benchmark
+    @Group("feedAndDisplay")
+    @GroupThreads(3)
+    public void feed() {
+        scoreboard.updateMatchScore(randomMatchId(), ThreadLocalRandom.current().nextInt(10), 0);
+    }
+
+    @Benchmark
+    @Group("feedAndDisplay")
+    @GroupThreads(1)
+    public List<String> display() {
+        return scoreboard.getMatchSummary();
+    }
+}
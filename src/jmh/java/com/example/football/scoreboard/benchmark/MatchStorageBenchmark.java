@@ -0,0 +1,79 @@
+package com.example.football.scoreboard.benchmark;
+
+import com.example.football.scoreboard.impl.InmemoryMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Lookups in InmemoryMatchStorage by match ID and by team names, with and without finished matches stored
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchStorageBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int storedMatches;
+
+    @Param({"0", "100000"})
+    int finishedMatches;
+
+    private InmemoryMatchStorage matchStorage;
+
+    private String[] matchIds;
+
+    // Team names are built up front so the lookups do not measure string concatenation
+    private String[] homeTeams;
+
+    private String[] awayTeams;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchStorage = new InmemoryMatchStorage();
+        matchIds = StoredMatches.start(new Scoreboard(matchStorage), storedMatches, finishedMatches);
+        homeTeams = new String[storedMatches];
+        awayTeams = new String[storedMatches];
+        for (int i = 0; i < storedMatches; i++) {
+            homeTeams[i] = StoredMatches.homeTeam(i);
+            awayTeams[i] = StoredMatches.awayTeam(i);
+        }
+    }
+
+    private int next() {
+        cursor = cursor + 1 == matchIds.length ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    @Benchmark
+    public Match findMatchById() {
+        return matchStorage.findMatch(matchIds[next()]);
+    }
+
+    @Benchmark
+    public Match findMatchByTeams() {
+        int index = next();
+        return matchStorage.findMatch(homeTeams[index], awayTeams[index]);
+    }
+
+    @Benchmark
+    public boolean isTeamInLiveMatch() {
+        return matchStorage.isTeamInLiveMatch(homeTeams[next()]);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.football.scoreboard.benchmark;
+
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.InmemoryMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.service.MatchStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded cost of the Scoreboard operations with 10, 1k and 100k live matches already stored,
+// optionally behind 100k finished matches.
+// Run with the GC profiler to see allocations per operation: java -jar target/benchmarks.jar Scoreboard -prof gc
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreboardBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int storedMatches;
+
+    @Param({"0", "100000"})
+    int finishedMatches;
+
+    @Param({"inmemory", "concurrent"})
+    String storage;
+
+    private Scoreboard scoreboard;
+
+    private String[] matchIds;
+
+    private ByteBuffer summaryBuffer;
+
+    private int cursor;
+
+    private int goals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MatchStorage matchStorage = storage.equals("inmemory") ? new InmemoryMatchStorage() : new ConcurrentMatchStorage();
+        scoreboard = new Scoreboard(matchStorage);
+        matchIds = StoredMatches.start(scoreboard, storedMatches, finishedMatches);
+        summaryBuffer = ByteBuffer.allocate(storedMatches * 64 + 1024);
+    }
+
+    private String nextMatchId() {
+        cursor = cursor + 1 == matchIds.length ? 0 : cursor + 1;
+        return matchIds[cursor];
+    }
+
+    // Start and finish a new fixture, so the number of live matches stays constant
+    @Benchmark
+    public Match startAndFinishMatch() {
+        Match match = scoreboard.startMatch("Benchmark Home", "Benchmark Away");
+        scoreboard.finishMatch(match.getMatchId());
+        return match;
+    }
+
+    @Benchmark
+    public void updateMatchScore() {
+        scoreboard.updateMatchScore(nextMatchId(), ++goals & 0xFF, 0);
+    }
+
+    // Summary of an unchanged scoreboard
+    @Benchmark
+    public List<String> getMatchSummary() {
+        return scoreboard.getMatchSummary();
+    }
+
+    // Unchanged summary written into a reused buffer, should show no allocation with -prof gc
+    @Benchmark
+    public long writeMatchSummary() {
+        summaryBuffer.clear();
+        return scoreboard.writeMatchSummary(summaryBuffer);
+    }
+
+    // Summary rebuilt after every goal, the usual pattern of a polling display
+    @Benchmark
+    public List<String> updateThenGetMatchSummary() {
+        scoreboard.updateMatchScore(nextMatchId(), ++goals & 0xFF, 0);
+        return scoreboard.getMatchSummary();
+    }
+
+    // Top 10 screen refreshed after every goal, walks only the head of the ranking
+    @Benchmark
+    public List<String> updateThenGetTopMatchSummary() {
+        scoreboard.updateMatchScore(nextMatchId(), ++goals & 0xFF, 0);
+        return scoreboard.getTopMatchSummary(10);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.football.scoreboard.benchmark;
+
+import com.example.football.scoreboard.impl.Scoreboard;
+
+// Fills a scoreboard with live matches between numbered teams, optionally after a history of finished matches
+final class StoredMatches {
+
+    private StoredMatches() {
+    }
+
+    static String homeTeam(int index) {
+        return "Home " + index;
+    }
+
+    static String awayTeam(int index) {
+        return "Away " + index;
+    }
+
+    static String[] start(Scoreboard scoreboard, int count) {
+        return start(scoreboard, count, 0);
+    }
+
+    // Finished matches are played by the same teams as the live ones, like earlier rounds of a season
+    static String[] start(Scoreboard scoreboard, int count, int finishedMatches) {
+        for (int i = 0; i < finishedMatches; i++) {
+            int team = i % count;
+            String matchId = scoreboard.startMatch(homeTeam(team), awayTeam(team)).getMatchId();
+            scoreboard.updateMatchScore(matchId, i % 3, i % 4);
+            scoreboard.finishMatch(matchId);
+        }
+        String[] matchIds = new String[count];
+        for (int i = 0; i < count; i++) {
+            String matchId = scoreboard.startMatch(homeTeam(i), awayTeam(i)).getMatchId();
+            scoreboard.updateMatchScore(matchId, i % 7, i % 5);
+            matchIds[i] = matchId;
+        }
+        return matchIds;
+    }
+}
@@ -1,12 +1,27 @@
 package com.example.football.scoreboard;
 
+import com.example.football.scoreboard.event.MatchEventPublisher;
 import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.id.MatchIdGenerator;
+import com.example.football.scoreboard.id.UuidMatchIdGenerator;
+import com.example.football.scoreboard.impl.CompactMatchStorage;
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
 import com.example.football.scoreboard.impl.InmemoryMatchStorage;
+import com.example.football.scoreboard.impl.InstrumentedMatchStorage;
+import com.example.football.scoreboard.impl.JournalingMatchStorage;
+import com.example.football.scoreboard.impl.MappedMatchStorage;
+import com.example.football.scoreboard.impl.MatchJournal;
 import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.metrics.MetricsRegistry;
 import com.example.football.scoreboard.model.InputWrapper;
 import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.server.ScoreboardHttpServer;
+import com.example.football.scoreboard.server.ScoreboardServer;
+import com.example.football.scoreboard.server.SessionExecutors;
 import com.example.football.scoreboard.service.MatchStorage;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
@@ -56,12 +71,94 @@ public class LiveFootballScoreboardApp {
 
     public static void main(String[] args) {
         // Initialize the storage and scoreboard
-        MatchStorage matchStorage = new InmemoryMatchStorage(); // In-memory storage for matches
-        Scoreboard scoreboard = new Scoreboard(matchStorage); // Scoreboard that operates on the storage
+        String mode = System.getProperty("scoreboard.mode", "console").trim().toLowerCase();
+        MatchStorage matchStorage = createMatchStorage(storageType(mode, System.getProperty("scoreboard.storage")));
+        String journalFile = System.getProperty("scoreboard.journal");
+        if(journalFile != null) {
+            // Durable mutations: journal every save and replay earlier runs, e.g. -Dscoreboard.journal=scoreboard.journal
+            matchStorage = new JournalingMatchStorage(matchStorage, new MatchJournal(Path.of(journalFile)));
+        }
+        MetricsRegistry metrics = MetricsRegistry.disabled();
+        if(Boolean.getBoolean("scoreboard.metrics")) {
+            // Operation latencies and live gauges over JMX, e.g. jconsole -> com.example.football.scoreboard:type=Metrics
+            metrics = MetricsRegistry.create();
+            metrics.registerMBean("com.example.football.scoreboard:type=Metrics");
+            matchStorage = new InstrumentedMatchStorage(matchStorage, metrics);
+        }
+        MatchIdGenerator matchIdGenerator = createMatchIdGenerator(System.getProperty("scoreboard.matchIds", "timeOrdered"));
+        Scoreboard scoreboard = new Scoreboard(matchStorage, matchIdGenerator, new MatchEventPublisher(), metrics); // Scoreboard that operates on the storage
+
+        switch (mode) {
+            case "server" -> runServer(scoreboard, Integer.getInteger("scoreboard.port", 7070));
+            case "http" -> runHttpServer(scoreboard, Integer.getInteger("scoreboard.port", 8080));
+            default -> {
+                InputWrapper inputWrapper = new InputWrapper(new Scanner(System.in));
+                LiveFootballScoreboardApp app = new LiveFootballScoreboardApp(inputWrapper, scoreboard);
+                app.run();
+            }
+        }
+    }
+
+    // Serve many concurrent operator sessions over TCP, e.g. -Dscoreboard.mode=server
+    private static void runServer(Scoreboard scoreboard, int port) {
+        ScoreboardServer server = new ScoreboardServer(scoreboard, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Scoreboard server listening on port " + server.getPort() + threadMode());
+        try {
+            server.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Serve the JSON HTTP API, e.g. -Dscoreboard.mode=http
+    private static void runHttpServer(Scoreboard scoreboard, int port) {
+        // The JDK server writes headers and body separately, without TCP_NODELAY every keep-alive
+        // request waits for the client's delayed ACK. Read once when the first server is created.
+        if(System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        Duration summaryWindow = Duration.ofMillis(Long.getLong("scoreboard.summary.windowMillis",
+                ScoreboardHttpServer.DEFAULT_SUMMARY_WINDOW.toMillis()));
+        ScoreboardHttpServer server = new ScoreboardHttpServer(scoreboard, port, SessionExecutors.newSessionExecutor(), summaryWindow);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Scoreboard HTTP API listening on port " + server.getPort() + threadMode());
+    }
+
+    private static String threadMode() {
+        return SessionExecutors.virtualThreadsAvailable() ? " (virtual threads)" : " (platform threads)";
+    }
+
+    // The server modes run every session on its own thread, so they default to and require the thread-safe storage
+    static String storageType(String mode, String storageType) {
+        boolean serverMode = mode.equals("server") || mode.equals("http");
+        if(storageType == null) {
+            return serverMode ? "concurrent" : "inmemory";
+        }
+        if(serverMode && !storageType.trim().equalsIgnoreCase("concurrent")) {
+            throw new IllegalArgumentException("The " + mode + " mode requires the concurrent storage, not " + storageType);
+        }
+        return storageType;
+    }
+
+    // Select the storage implementation, e.g. -Dscoreboard.storage=concurrent for multi-threaded feeds
+    static MatchStorage createMatchStorage(String storageType) {
+        return switch (storageType.trim().toLowerCase()) {
+            case "inmemory" -> new InmemoryMatchStorage(); // In-memory storage for matches
+            case "concurrent" -> new ConcurrentMatchStorage(); // Thread-safe in-memory storage
+            case "compact" -> new CompactMatchStorage(); // Memory-lean storage for large archives
+            case "mapped" -> new MappedMatchStorage(Path.of(System.getProperty("scoreboard.storage.file", "matches.db"))); // Persistent off-heap storage
+            default -> throw new IllegalArgumentException("Unknown storage type: " + storageType);
+        };
+    }
 
-        InputWrapper inputWrapper = new InputWrapper(new Scanner(System.in));
-        LiveFootballScoreboardApp app = new LiveFootballScoreboardApp(inputWrapper, scoreboard);
-        app.run();
+    // Select the match ID format, e.g. -Dscoreboard.matchIds=uuid for the original UUID IDs
+    static MatchIdGenerator createMatchIdGenerator(String idType) {
+        return switch (idType.trim().toLowerCase()) {
+            case "timeordered" -> MatchIdGenerator.defaultGenerator(); // Compact IDs sorted by creation
+            case "uuid" -> new UuidMatchIdGenerator(); // Random UUIDs
+            default -> throw new IllegalArgumentException("Unknown match ID type: " + idType);
+        };
     }
 
     private void displayMenu() {
@@ -0,0 +1,11 @@
+package com.example.football.scoreboard.event;
+
+// What happens to a new event when a subscriber's buffer is full
+public enum BackpressurePolicy {
+    // Discard the oldest buffered event to make room, the subscriber always sees the latest changes
+    DROP_OLDEST,
+    // Discard the new event, the subscriber keeps what is already buffered
+    DROP_NEWEST,
+    // Cancel the subscription and signal onError to the subscriber
+    ERROR
+}
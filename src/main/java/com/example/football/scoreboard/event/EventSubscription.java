@@ -0,0 +1,149 @@
+package com.example.football.scoreboard.event;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One subscriber's bounded buffer and demand, drained by at most one executor task at a time
+final class EventSubscription implements Flow.Subscription, Runnable {
+
+    private final MatchEventPublisher publisher;
+
+    private final Flow.Subscriber<? super MatchEvent> subscriber;
+
+    private final Executor executor;
+
+    private final int capacity;
+
+    private final BackpressurePolicy policy;
+
+    private final ArrayDeque<MatchEvent> buffer;
+
+    private final AtomicLong demand = new AtomicLong();
+
+    // Number of drain requests, a new drain task is only submitted when it goes up from zero
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private volatile boolean cancelled;
+
+    private volatile boolean completed;
+
+    private volatile Throwable failure;
+
+    EventSubscription(MatchEventPublisher publisher, Flow.Subscriber<? super MatchEvent> subscriber, Executor executor,
+                      int capacity, BackpressurePolicy policy) {
+        this.publisher = publisher;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    void offer(MatchEvent event) {
+        if(cancelled) {
+            return;
+        }
+        synchronized (buffer) {
+            if(buffer.size() == capacity) {
+                switch (policy) {
+                    case DROP_OLDEST -> {
+                        buffer.poll();
+                        droppedEvents.incrementAndGet();
+                    }
+                    case DROP_NEWEST -> {
+                        droppedEvents.incrementAndGet();
+                        return;
+                    }
+                    case ERROR -> {
+                        if(failure == null) {
+                            failure = new IllegalStateException("Subscriber buffer overflow, capacity " + capacity);
+                        }
+                        drain();
+                        return;
+                    }
+                }
+            }
+            buffer.add(event);
+        }
+        drain();
+    }
+
+    void complete() {
+        completed = true;
+        drain();
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public void request(long n) {
+        if(n <= 0) {
+            // Reactive Streams rule 3.9
+            failure = new IllegalArgumentException("Requested demand must be positive: " + n);
+        } else {
+            demand.accumulateAndGet(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        publisher.remove(this);
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+
+    private void drain() {
+        if(pendingDrains.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        do {
+            deliver();
+            missed = pendingDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver() {
+        while (!cancelled) {
+            Throwable error = failure;
+            if(error != null) {
+                cancel();
+                subscriber.onError(error);
+                return;
+            }
+            MatchEvent event;
+            synchronized (buffer) {
+                event = demand.get() > 0 ? buffer.poll() : null;
+                if(event == null) {
+                    if(completed && buffer.isEmpty()) {
+                        cancel();
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+            }
+            demand.decrementAndGet();
+            try {
+                subscriber.onNext(event);
+            } catch (RuntimeException e) {
+                // A failing subscriber is dropped, it must not stop delivery to the others
+                cancel();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.football.scoreboard.event;
+
+import com.example.football.scoreboard.model.MatchSnapshot;
+
+// Change published by the scoreboard, carrying the match state after the change and the summary version it produced
+public sealed interface MatchEvent permits MatchStarted, ScoreChanged, MatchFinished {
+
+    MatchSnapshot match();
+
+    long summaryVersion();
+}
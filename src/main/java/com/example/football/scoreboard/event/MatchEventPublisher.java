@@ -0,0 +1,93 @@
+package com.example.football.scoreboard.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+
+// Non-blocking publisher of scoreboard events: publish only appends to each subscriber's bounded buffer,
+// delivery happens on the executor at the pace each subscriber requests
+public class MatchEventPublisher implements Flow.Publisher<MatchEvent>, AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private final Executor executor;
+
+    private final int defaultBufferCapacity;
+
+    private final BackpressurePolicy defaultPolicy;
+
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile boolean closed;
+
+    public MatchEventPublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY, BackpressurePolicy.DROP_OLDEST);
+    }
+
+    public MatchEventPublisher(Executor executor, int defaultBufferCapacity, BackpressurePolicy defaultPolicy) {
+        if(executor == null || defaultPolicy == null) {
+            throw new IllegalArgumentException("Executor and backpressure policy cannot be null");
+        }
+        if(defaultBufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.executor = executor;
+        this.defaultBufferCapacity = defaultBufferCapacity;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        subscribe(subscriber, defaultBufferCapacity, defaultPolicy);
+    }
+
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber, int bufferCapacity, BackpressurePolicy policy) {
+        if(subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        if(bufferCapacity <= 0 || policy == null) {
+            throw new IllegalArgumentException("Buffer capacity must be positive and backpressure policy cannot be null");
+        }
+        EventSubscription subscription = new EventSubscription(this, subscriber, executor, bufferCapacity, policy);
+        subscriber.onSubscribe(subscription);
+        subscriptions.add(subscription);
+        if(closed) {
+            subscription.complete();
+        }
+    }
+
+    public void publish(MatchEvent event) {
+        if(event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        if(closed) {
+            return; // Mutations keep working after the event stream is shut down
+        }
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    // Complete every subscriber once its buffered events are delivered
+    @Override
+    public void close() {
+        closed = true;
+        for (EventSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    void remove(EventSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.football.scoreboard.event;
+
+import com.example.football.scoreboard.model.MatchSnapshot;
+
+public record MatchStarted(MatchSnapshot match, long summaryVersion) implements MatchEvent {
+}
@@ -0,0 +1,11 @@
+package com.example.football.scoreboard.id;
+
+public interface MatchIdGenerator {
+
+    String nextId();
+
+    // Compact, creation-ordered IDs used when no generator is chosen explicitly
+    static MatchIdGenerator defaultGenerator() {
+        return TimeOrderedMatchIdGenerator.INSTANCE;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.football.scoreboard.id;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 64-bit IDs made of the milliseconds since 2020-01-01 (42 bits) and a per-millisecond sequence (22 bits),
+// rendered as 13 Crockford base32 characters. IDs sort by creation, as numbers and as strings, and need no SecureRandom.
+public class TimeOrderedMatchIdGenerator implements MatchIdGenerator {
+
+    static final TimeOrderedMatchIdGenerator INSTANCE = new TimeOrderedMatchIdGenerator();
+
+    public static final int ID_LENGTH = 13;
+
+    private static final long EPOCH_MILLIS = 1_577_836_800_000L; // 2020-01-01T00:00:00Z
+
+    private static final int SEQUENCE_BITS = 22;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private final Clock clock;
+
+    private final AtomicLong lastId = new AtomicLong();
+
+    public TimeOrderedMatchIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    public TimeOrderedMatchIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        return encode(nextLongId());
+    }
+
+    public long nextLongId() {
+        long timestampId = (clock.millis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        // Take the next sequence in the current millisecond, or move on to the clock if it is ahead
+        return lastId.accumulateAndGet(timestampId, (last, now) -> Math.max(last + 1, now));
+    }
+
+    public static String encode(long id) {
+        char[] chars = new char[ID_LENGTH];
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    // Returns the numeric form of an ID produced by this generator, or -1 if the ID has another format
+    public static long decode(String id) {
+        if (id == null || id.length() != ID_LENGTH) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < ID_LENGTH; i++) {
+            char c = id.charAt(i);
+            int digit = c < DECODE.length ? DECODE[c] : -1;
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 5) | digit;
+        }
+        // The leading character only carries 4 bits, larger values do not fit a positive long
+        return id.charAt(0) <= '7' ? value : -1;
+    }
+}
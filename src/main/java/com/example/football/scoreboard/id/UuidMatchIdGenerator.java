@@ -0,0 +1,12 @@
+package com.example.football.scoreboard.id;
+
+import java.util.UUID;
+
+// Random 36 character UUIDs, the original match ID format
+public class UuidMatchIdGenerator implements MatchIdGenerator {
+
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
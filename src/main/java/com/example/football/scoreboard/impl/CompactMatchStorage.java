@@ -0,0 +1,159 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.id.TimeOrderedMatchIdGenerator;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.Score;
+import com.example.football.scoreboard.model.TeamRegistry;
+import com.example.football.scoreboard.service.MatchStorage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// Memory-lean storage for large match archives: matches are kept as struct-of-arrays columns keyed by primitive
+// long IDs, with registry team IDs and open-addressing indexes instead of boxed map entries and Match objects.
+// Only live matches keep a Match handle, finished matches are materialized as detached copies on read.
+// Requires IDs from TimeOrderedMatchIdGenerator. Not thread-safe, like InmemoryMatchStorage.
+public class CompactMatchStorage implements MatchStorage {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Match columns, one row per stored match
+    private long[] matchIds;
+    private int[] homeTeams;
+    private int[] awayTeams;
+    private int[] homeTeamScores;
+    private int[] awayTeamScores;
+    private long[] scoreVersions;
+    private long[] startTimes;
+    private final BitSet liveRows = new BitSet();
+    private int rowCount;
+
+    private final TeamRegistry teams = TeamRegistry.global();
+
+    private final LongIntHashMap rowsByMatchId = new LongIntHashMap(INITIAL_CAPACITY);
+
+    private final LiveRowIndex liveIndex = new LiveRowIndex();
+
+    public CompactMatchStorage() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public CompactMatchStorage(int initialCapacity) {
+        if(initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        allocateColumns(initialCapacity);
+    }
+
+    @Override
+    public void saveMatch(Match match) {
+        if(match == null || match.getMatchId() == null) {
+            throw new IllegalArgumentException("Match or Match Id cannot be null");
+        }
+        long matchId = TimeOrderedMatchIdGenerator.decode(match.getMatchId());
+        if(matchId < 0) {
+            throw new IllegalArgumentException("Match ID is not a time-ordered match ID: " + match.getMatchId());
+        }
+        MatchSnapshot snapshot = match.snapshot();
+
+        int row = rowsByMatchId.get(matchId);
+        if(row == LongIntHashMap.NO_VALUE) {
+            row = appendRow(matchId, snapshot);
+        }
+        homeTeamScores[row] = snapshot.homeTeamScore();
+        awayTeamScores[row] = snapshot.awayTeamScore();
+        scoreVersions[row] = snapshot.score().version();
+        liveRows.set(row, snapshot.live());
+        liveIndex.index(row, snapshot, match);
+    }
+
+    @Override
+    public Match findMatch(String matchId) {
+        if(matchId == null || matchId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Match ID cannot be null or empty");
+        }
+        long id = TimeOrderedMatchIdGenerator.decode(matchId);
+        int row = id < 0 ? LongIntHashMap.NO_VALUE : rowsByMatchId.get(id);
+
+        if(row == LongIntHashMap.NO_VALUE) {
+            throw new MatchNotFoundException("No match found with ID: "+matchId);
+        }
+        return matchAt(row);
+    }
+
+    @Override
+    public Match findMatch(String homeTeam, String awayTeam) {
+        return liveIndex.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        return liveIndex.isTeamInLiveMatch(team);
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        return liveIndex.liveMatches();
+    }
+
+    @Override
+    public List<Match> getAllMatches() {
+        List<Match> matches = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            matches.add(matchAt(row));
+        }
+        return List.copyOf(matches);
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    private int appendRow(long matchId, MatchSnapshot snapshot) {
+        if(rowCount == matchIds.length) {
+            growColumns(rowCount << 1);
+        }
+        int row = rowCount++;
+        matchIds[row] = matchId;
+        homeTeams[row] = snapshot.homeTeam().id();
+        awayTeams[row] = snapshot.awayTeam().id();
+        startTimes[row] = EpochNanos.of(snapshot.startTime());
+        rowsByMatchId.put(matchId, row);
+        return row;
+    }
+
+    private Match matchAt(int row) {
+        Match match = liveIndex.handle(row);
+        if(match != null) {
+            return match;
+        }
+        return new Match(new MatchSnapshot(TimeOrderedMatchIdGenerator.encode(matchIds[row]),
+                teams.get(homeTeams[row]), teams.get(awayTeams[row]),
+                new Score(homeTeamScores[row], awayTeamScores[row], scoreVersions[row]),
+                EpochNanos.toLocalDateTime(startTimes[row]), liveRows.get(row)));
+    }
+
+    private void allocateColumns(int capacity) {
+        matchIds = new long[capacity];
+        homeTeams = new int[capacity];
+        awayTeams = new int[capacity];
+        homeTeamScores = new int[capacity];
+        awayTeamScores = new int[capacity];
+        scoreVersions = new long[capacity];
+        startTimes = new long[capacity];
+    }
+
+    private void growColumns(int capacity) {
+        matchIds = Arrays.copyOf(matchIds, capacity);
+        homeTeams = Arrays.copyOf(homeTeams, capacity);
+        awayTeams = Arrays.copyOf(awayTeams, capacity);
+        homeTeamScores = Arrays.copyOf(homeTeamScores, capacity);
+        awayTeamScores = Arrays.copyOf(awayTeamScores, capacity);
+        scoreVersions = Arrays.copyOf(scoreVersions, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+    }
+}
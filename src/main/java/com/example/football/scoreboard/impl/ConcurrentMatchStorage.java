@@ -0,0 +1,75 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.service.MatchStorage;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Thread-safe storage for concurrent feeds: writes lock only the affected bin of the map
+// and reads never block, so many writer threads can run alongside getAllMatches readers.
+public class ConcurrentMatchStorage implements MatchStorage {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    private final ConcurrentMap<String, Match> matchMap;
+
+    private final LiveMatchIndex liveIndex;
+
+    public ConcurrentMatchStorage() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentMatchStorage(int concurrencyLevel) {
+        if(concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+        this.matchMap = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
+        this.liveIndex = LiveMatchIndex.concurrent(concurrencyLevel);
+    }
+
+    @Override
+    public void saveMatch(Match match) {
+        if(match == null || match.getMatchId() == null) {
+            throw new IllegalArgumentException("Match or Match Id cannot be null");
+        }
+        matchMap.put(match.getMatchId(), match);
+        liveIndex.index(match);
+    }
+
+    @Override
+    public Match findMatch(String matchId) {
+        if(matchId == null || matchId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Match ID cannot be null or empty");
+        }
+        Match match = matchMap.get(matchId);
+
+        if(match ==  null) {
+            throw new MatchNotFoundException("No match found with ID: "+matchId);
+        }
+        return match;
+    }
+
+    @Override
+    public Match findMatch(String homeTeam, String awayTeam) {
+        return liveIndex.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        return liveIndex.isTeamInLiveMatch(team);
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        return liveIndex.liveMatches();
+    }
+
+    @Override
+    public List<Match> getAllMatches() {
+        // Weakly consistent traversal, never throws ConcurrentModificationException
+        return List.copyOf(matchMap.values());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.football.scoreboard.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Packs a match start time into a single long for primitive and off-heap storage
+final class EpochNanos {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private EpochNanos() {
+    }
+
+    static long of(LocalDateTime startTime) {
+        return startTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + startTime.getNano();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -13,12 +13,15 @@ public class InmemoryMatchStorage implements MatchStorage {
 
     private final Map<String, Match> matchMap = new HashMap<>();
 
+    private final LiveMatchIndex liveIndex = LiveMatchIndex.create();
+
     @Override
     public void saveMatch(Match match) {
         if(match == null || match.getMatchId() == null) {
             throw new IllegalArgumentException("Match or Match Id cannot be null");
         }
         matchMap.put(match.getMatchId(), match);
+        liveIndex.index(match);
     }
 
     @Override
@@ -36,12 +39,17 @@ public class InmemoryMatchStorage implements MatchStorage {
 
     @Override
     public Match findMatch(String homeTeam, String awayTeam) {
-        return matchMap.values().stream()
-                .filter(match -> match.getHomeTeam().equals(homeTeam) &&
-                        match.getAwayTeam().equals(awayTeam) &&
-                        match.isLive())
-                .findFirst()
-                .orElse(null);
+        return liveIndex.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        return liveIndex.isTeamInLiveMatch(team);
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        return liveIndex.liveMatches();
     }
 
     @Override
@@ -0,0 +1,113 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.metrics.MetricsRegistry;
+import com.example.football.scoreboard.metrics.Timer;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.service.MatchStorage;
+
+import java.util.Collection;
+import java.util.List;
+
+// Records call counts and latencies of every storage operation under "storage.*" in the registry
+public class InstrumentedMatchStorage implements MatchStorage {
+
+    private final MatchStorage delegate;
+
+    private final Timer saveTimer;
+
+    private final Timer saveBatchTimer;
+
+    private final Timer findByIdTimer;
+
+    private final Timer findByTeamsTimer;
+
+    private final Timer teamInLiveMatchTimer;
+
+    private final Timer allMatchesTimer;
+
+    private final Timer liveMatchesTimer;
+
+    public InstrumentedMatchStorage(MatchStorage delegate, MetricsRegistry metrics) {
+        if(delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Match storage and metrics registry cannot be null");
+        }
+        this.delegate = delegate;
+        this.saveTimer = metrics.timer("storage.saveMatch");
+        this.saveBatchTimer = metrics.timer("storage.saveMatches");
+        this.findByIdTimer = metrics.timer("storage.findMatchById");
+        this.findByTeamsTimer = metrics.timer("storage.findMatchByTeams");
+        this.teamInLiveMatchTimer = metrics.timer("storage.isTeamInLiveMatch");
+        this.allMatchesTimer = metrics.timer("storage.getAllMatches");
+        this.liveMatchesTimer = metrics.timer("storage.getLiveMatches");
+    }
+
+    @Override
+    public void saveMatch(Match match) {
+        long start = saveTimer.start();
+        try {
+            delegate.saveMatch(match);
+        } finally {
+            saveTimer.stop(start);
+        }
+    }
+
+    @Override
+    public void saveMatches(Collection<Match> matches) {
+        long start = saveBatchTimer.start();
+        try {
+            delegate.saveMatches(matches);
+        } finally {
+            saveBatchTimer.stop(start);
+        }
+    }
+
+    @Override
+    public Match findMatch(String matchId) {
+        long start = findByIdTimer.start();
+        try {
+            return delegate.findMatch(matchId);
+        } finally {
+            findByIdTimer.stop(start);
+        }
+    }
+
+    @Override
+    public Match findMatch(String homeTeam, String awayTeam) {
+        long start = findByTeamsTimer.start();
+        try {
+            return delegate.findMatch(homeTeam, awayTeam);
+        } finally {
+            findByTeamsTimer.stop(start);
+        }
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        long start = teamInLiveMatchTimer.start();
+        try {
+            return delegate.isTeamInLiveMatch(team);
+        } finally {
+            teamInLiveMatchTimer.stop(start);
+        }
+    }
+
+    @Override
+    public List<Match> getAllMatches() {
+        long start = allMatchesTimer.start();
+        try {
+            return delegate.getAllMatches();
+        } finally {
+            allMatchesTimer.stop(start);
+        }
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        long start = liveMatchesTimer.start();
+        try {
+            return delegate.getLiveMatches();
+        } finally {
+            liveMatchesTimer.stop(start);
+        }
+    }
+}
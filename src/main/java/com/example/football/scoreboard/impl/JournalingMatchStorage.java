@@ -0,0 +1,77 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.service.MatchStorage;
+import com.example.football.scoreboard.model.Match;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.List;
+
+// Write-ahead journaling around any storage: every save is appended to the journal before it is applied,
+// and the journal is replayed into the storage on startup. Scoreboard saves on every start, score update
+// and finish, so each mutation becomes durable while fsyncs are shared by concurrent writers.
+public class JournalingMatchStorage implements MatchStorage, Closeable {
+
+    private final MatchStorage delegate;
+
+    private final MatchJournal journal;
+
+    public JournalingMatchStorage(MatchStorage delegate, MatchJournal journal) {
+        if(delegate == null || journal == null) {
+            throw new IllegalArgumentException("Match storage and journal cannot be null");
+        }
+        this.delegate = delegate;
+        this.journal = journal;
+        // Later entries of a match carry its newer state, so replaying in order leaves the latest one
+        journal.replay(snapshot -> delegate.saveMatch(new Match(snapshot)));
+    }
+
+    @Override
+    public void saveMatch(Match match) {
+        if(match == null || match.getMatchId() == null) {
+            throw new IllegalArgumentException("Match or Match Id cannot be null");
+        }
+        journal.append(match);
+        delegate.saveMatch(match);
+    }
+
+    // The whole batch is appended together and waits for a single commit
+    @Override
+    public void saveMatches(Collection<Match> matches) {
+        if(matches == null || matches.stream().anyMatch(match -> match == null || match.getMatchId() == null)) {
+            throw new IllegalArgumentException("Match or Match Id cannot be null");
+        }
+        journal.appendAll(matches);
+        delegate.saveMatches(matches);
+    }
+
+    @Override
+    public Match findMatch(String matchId) {
+        return delegate.findMatch(matchId);
+    }
+
+    @Override
+    public Match findMatch(String homeTeam, String awayTeam) {
+        return delegate.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        return delegate.isTeamInLiveMatch(team);
+    }
+
+    @Override
+    public List<Match> getAllMatches() {
+        return delegate.getAllMatches();
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        return delegate.getLiveMatches();
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.Team;
+import com.example.football.scoreboard.model.TeamRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Live fixture and live team indexes of the storages that keep Match objects: entries point at the match,
+// finished matches are dropped from them. Thread-safe when created with concurrent().
+class LiveMatchIndex {
+
+    // Index of live matches by (home team ID, away team ID)
+    private final Map<Long, Match> liveFixtures;
+
+    // Index of live matches by the ID of each participating team
+    private final Map<Integer, Match> liveTeams;
+
+    private LiveMatchIndex(Map<Long, Match> liveFixtures, Map<Integer, Match> liveTeams) {
+        this.liveFixtures = liveFixtures;
+        this.liveTeams = liveTeams;
+    }
+
+    static LiveMatchIndex create() {
+        return new LiveMatchIndex(new HashMap<>(), new HashMap<>());
+    }
+
+    static LiveMatchIndex concurrent(int concurrencyLevel) {
+        return new LiveMatchIndex(new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel),
+                new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel));
+    }
+
+    void index(Match match) {
+        index(match, match.snapshot());
+    }
+
+    // The snapshot may be stale by the time it is indexed, e.g. a score update of a match finished meanwhile
+    // while its teams started a new match, so a live entry never replaces the entry of another live match
+    void index(Match match, MatchSnapshot snapshot) {
+        long key = Team.fixtureKey(snapshot.homeTeam(), snapshot.awayTeam());
+        if(snapshot.live()) {
+            putIfCurrent(liveFixtures, key, match);
+            putIfCurrent(liveTeams, snapshot.homeTeam().id(), match);
+            putIfCurrent(liveTeams, snapshot.awayTeam().id(), match);
+            if(match.isLive()) {
+                return;
+            }
+            // Finished while being indexed, drop the entries the finish may have missed
+        }
+        removeIfIndexed(liveFixtures, key, match);
+        removeIfIndexed(liveTeams, snapshot.homeTeam().id(), match);
+        removeIfIndexed(liveTeams, snapshot.awayTeam().id(), match);
+    }
+
+    private <K> void putIfCurrent(Map<K, Match> index, K key, Match match) {
+        index.compute(key, (indexKey, indexed) -> indexed == null || !indexed.isLive()
+                || indexed.getMatchId().equals(match.getMatchId()) ? match : indexed);
+    }
+
+    // A rematch may already be indexed under the same key, only the entry of this match is removed
+    private <K> void removeIfIndexed(Map<K, Match> index, K key, Match match) {
+        index.computeIfPresent(key, (indexKey, indexed) ->
+                indexed.getMatchId().equals(match.getMatchId()) ? null : indexed);
+    }
+
+    Match findMatch(String homeTeam, String awayTeam) {
+        Team home = TeamRegistry.global().find(homeTeam);
+        Team away = TeamRegistry.global().find(awayTeam);
+        if(home == null || away == null) {
+            return null;
+        }
+        Match match = liveFixtures.get(Team.fixtureKey(home, away));
+        return match != null && match.isLive() ? match : null;
+    }
+
+    // Every live match is indexed under its fixture exactly once
+    List<Match> liveMatches() {
+        return liveFixtures.values().stream().filter(Match::isLive).toList();
+    }
+
+    boolean isTeamInLiveMatch(String team) {
+        Team registered = TeamRegistry.global().find(team);
+        Match match = registered == null ? null : liveTeams.get(registered.id());
+        return match != null && match.isLive();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Live matches kept in summary order (total score, then most recent start) and updated in place on every change,
+// so reading the summary is a walk of an already sorted set instead of a filter and sort of all matches.
+class LiveRanking {
+
+    static final Comparator<MatchSnapshot> SUMMARY_ORDER = Comparator.comparingInt(MatchSnapshot::totalScore).reversed()
+            .thenComparing(MatchSnapshot::startTime, Comparator.reverseOrder())
+            .thenComparing(MatchSnapshot::matchId);
+
+    private final ConcurrentSkipListSet<Entry> ranking =
+            new ConcurrentSkipListSet<>(Comparator.comparing(Entry::snapshot, SUMMARY_ORDER));
+
+    // Entry each live match was ranked with, needed to locate it in the ranking when its score changes
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // Re-rank a match after it was started or its score changed, finished matches leave the ranking
+    void update(Match match) {
+        entries.compute(match.getMatchId(), (matchId, current) -> {
+            MatchSnapshot updated = match.snapshot();
+            if (current != null) {
+                // Re-saving an unchanged match keeps its entry and the line already rendered for it
+                if (current.snapshot() == updated) {
+                    return current;
+                }
+                ranking.remove(current);
+            }
+            if (!updated.live()) {
+                return null;
+            }
+            Entry entry = new Entry(updated);
+            ranking.add(entry);
+            return entry;
+        });
+    }
+
+    void remove(String matchId) {
+        entries.computeIfPresent(matchId, (id, current) -> {
+            ranking.remove(current);
+            return null;
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Weakly consistent with concurrent updates: a match being re-ranked may be missing from a concurrent walk
+    List<Entry> rankedEntries() {
+        return List.copyOf(ranking);
+    }
+
+    // Walks only the first offset + limit entries of the ordered set, nothing is sorted
+    List<Entry> rankedEntries(int offset, int limit) {
+        List<Entry> page = new ArrayList<>(Math.min(limit, entries.size()));
+        Iterator<Entry> ranked = ranking.iterator();
+        for (int skipped = 0; skipped < offset && ranked.hasNext(); skipped++) {
+            ranked.next();
+        }
+        while (page.size() < limit && ranked.hasNext()) {
+            page.add(ranked.next());
+        }
+        return page;
+    }
+
+    List<MatchSnapshot> rankedMatches() {
+        return rankedEntries().stream().map(Entry::snapshot).toList();
+    }
+
+    // A ranked snapshot with its summary line without the rank, rendered on first read. A score change
+    // replaces the snapshot and so the entry, which drops the stale line with it.
+    static final class Entry {
+
+        private final MatchSnapshot snapshot;
+
+        // Benign race: concurrent readers may both render the line, Strings are safely published either way
+        private String line;
+
+        Entry(MatchSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        MatchSnapshot snapshot() {
+            return snapshot;
+        }
+
+        String line() {
+            String rendered = line;
+            if (rendered == null) {
+                rendered = snapshot.homeTeamName() + " " + snapshot.homeTeamScore() +
+                        " - " + snapshot.awayTeamName() + " " + snapshot.awayTeamScore();
+                line = rendered;
+            }
+            return rendered;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.Team;
+import com.example.football.scoreboard.model.TeamRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Live fixture and live team indexes of the row-based storages: entries point at the row (or record) of the match
+// in primitive maps, and only live matches keep a Match handle. Not thread-safe.
+class LiveRowIndex {
+
+    private final LongIntHashMap liveFixtures = new LongIntHashMap();
+
+    private final LongIntHashMap liveTeams = new LongIntHashMap();
+
+    // Handles of live matches, so callers keep mutating the same instance while a match is in progress
+    private final Map<Integer, Match> liveMatches = new HashMap<>();
+
+    void index(int row, MatchSnapshot snapshot, Match match) {
+        long fixture = Team.fixtureKey(snapshot.homeTeam(), snapshot.awayTeam());
+        int homeTeamId = snapshot.homeTeam().id();
+        int awayTeamId = snapshot.awayTeam().id();
+        if(snapshot.live()) {
+            liveMatches.put(row, match);
+            liveFixtures.put(fixture, row);
+            liveTeams.put(homeTeamId, row);
+            liveTeams.put(awayTeamId, row);
+        } else {
+            liveMatches.remove(row);
+            removeIfIndexed(liveFixtures, fixture, row);
+            removeIfIndexed(liveTeams, homeTeamId, row);
+            removeIfIndexed(liveTeams, awayTeamId, row);
+        }
+    }
+
+    // A rematch may already be indexed under the same key, only the entry of this row is removed
+    private void removeIfIndexed(LongIntHashMap index, long key, int row) {
+        if(index.get(key) == row) {
+            index.remove(key);
+        }
+    }
+
+    // Handle of a live row, null for finished rows
+    Match handle(int row) {
+        return liveMatches.get(row);
+    }
+
+    Match findMatch(String homeTeam, String awayTeam) {
+        Team home = TeamRegistry.global().find(homeTeam);
+        Team away = TeamRegistry.global().find(awayTeam);
+        if(home == null || away == null) {
+            return null;
+        }
+        int row = liveFixtures.get(Team.fixtureKey(home, away));
+        return row == LongIntHashMap.NO_VALUE ? null : liveMatch(row);
+    }
+
+    List<Match> liveMatches() {
+        return liveMatches.values().stream().filter(Match::isLive).toList();
+    }
+
+    boolean isTeamInLiveMatch(String team) {
+        Team registered = TeamRegistry.global().find(team);
+        if(registered == null) {
+            return false;
+        }
+        int row = liveTeams.get(registered.id());
+        return row != LongIntHashMap.NO_VALUE && liveMatch(row) != null;
+    }
+
+    private Match liveMatch(int row) {
+        Match match = liveMatches.get(row);
+        return match != null && match.isLive() ? match : null;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.id.TimeOrderedMatchIdGenerator;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.Score;
+import com.example.football.scoreboard.model.Team;
+import com.example.football.scoreboard.model.TeamRegistry;
+import com.example.football.scoreboard.service.MatchStorage;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Off-heap storage for the full match history: every match is a fixed-size record in a memory-mapped file, so the
+// archive costs almost no heap and survives restarts. Only the ID index and handles of live matches live on the heap.
+// Team names are kept in a "<file>.teams" side file, records refer to them by file-local team ID.
+// Requires IDs from TimeOrderedMatchIdGenerator. Not thread-safe, like InmemoryMatchStorage.
+public class MappedMatchStorage implements MatchStorage, Closeable {
+
+    private static final int MAGIC = 0x4D415443; // "MATC"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+
+    // Header layout
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_COUNT_OFFSET = 8;
+
+    static final int RECORD_SIZE = 48;
+
+    // Record layout
+    private static final int MATCH_ID_OFFSET = 0;
+    private static final int HOME_TEAM_OFFSET = 8;
+    private static final int AWAY_TEAM_OFFSET = 12;
+    private static final int HOME_SCORE_OFFSET = 16;
+    private static final int AWAY_SCORE_OFFSET = 20;
+    private static final int SCORE_VERSION_OFFSET = 24;
+    private static final int START_TIME_OFFSET = 32;
+    private static final int LIVE_OFFSET = 40;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // A single mapping is limited to 2 GB
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private final FileChannel channel;
+
+    private MappedByteBuffer buffer;
+
+    private int capacity;
+
+    private int recordCount;
+
+    private final LongIntHashMap recordsByMatchId = new LongIntHashMap(INITIAL_CAPACITY);
+
+    private final LiveRowIndex liveIndex = new LiveRowIndex();
+
+    // Registry team ID -> file team ID and back
+    private final Map<Integer, Integer> fileTeamIds = new HashMap<>();
+    private final List<Team> fileTeams = new ArrayList<>();
+    private final DataOutputStream teamsOut;
+
+    private final TeamRegistry teams = TeamRegistry.global();
+
+    public MappedMatchStorage(Path file) {
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open match store " + file, e);
+        }
+        try {
+            Path teamsFile = file.resolveSibling(file.getFileName() + ".teams");
+            loadTeams(teamsFile);
+            this.teamsOut = new DataOutputStream(new FileOutputStream(teamsFile.toFile(), true));
+        } catch (IOException e) {
+            closeChannelQuietly();
+            throw new UncheckedIOException("Failed to open match store " + file, e);
+        } catch (RuntimeException e) {
+            closeChannelQuietly();
+            throw e;
+        }
+        try {
+            openRecords();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Failed to open match store " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveMatch(Match match) {
+        if(match == null || match.getMatchId() == null) {
+            throw new IllegalArgumentException("Match or Match Id cannot be null");
+        }
+        long matchId = TimeOrderedMatchIdGenerator.decode(match.getMatchId());
+        if(matchId < 0) {
+            throw new IllegalArgumentException("Match ID is not a time-ordered match ID: " + match.getMatchId());
+        }
+        MatchSnapshot snapshot = match.snapshot();
+
+        int record = recordsByMatchId.get(matchId);
+        if(record == LongIntHashMap.NO_VALUE) {
+            record = appendRecord(matchId, snapshot);
+        }
+        int position = position(record);
+        buffer.putInt(position + HOME_SCORE_OFFSET, snapshot.homeTeamScore());
+        buffer.putInt(position + AWAY_SCORE_OFFSET, snapshot.awayTeamScore());
+        buffer.putLong(position + SCORE_VERSION_OFFSET, snapshot.score().version());
+        buffer.put(position + LIVE_OFFSET, (byte) (snapshot.live() ? 1 : 0));
+        liveIndex.index(record, snapshot, match);
+    }
+
+    @Override
+    public Match findMatch(String matchId) {
+        if(matchId == null || matchId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Match ID cannot be null or empty");
+        }
+        long id = TimeOrderedMatchIdGenerator.decode(matchId);
+        int record = id < 0 ? LongIntHashMap.NO_VALUE : recordsByMatchId.get(id);
+
+        if(record == LongIntHashMap.NO_VALUE) {
+            throw new MatchNotFoundException("No match found with ID: "+matchId);
+        }
+        return matchAt(record);
+    }
+
+    @Override
+    public Match findMatch(String homeTeam, String awayTeam) {
+        return liveIndex.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public boolean isTeamInLiveMatch(String team) {
+        return liveIndex.isTeamInLiveMatch(team);
+    }
+
+    @Override
+    public List<Match> getLiveMatches() {
+        return liveIndex.liveMatches();
+    }
+
+    @Override
+    public List<Match> getAllMatches() {
+        List<Match> matches = new ArrayList<>(recordCount);
+        for (int record = 0; record < recordCount; record++) {
+            matches.add(matchAt(record));
+        }
+        return List.copyOf(matches);
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    // Flush mapped records and team names to the storage device
+    public void force() {
+        try {
+            teamsOut.flush();
+            buffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush match store", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            teamsOut.close();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close match store", e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            teamsOut.close();
+        } catch (IOException e) {
+            // Already failing to open, keep the original error
+        }
+        closeChannelQuietly();
+    }
+
+    private void closeChannelQuietly() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already failing to open, keep the original error
+        }
+    }
+
+    private void openRecords() throws IOException {
+        long fileSize = channel.size();
+        if(fileSize < HEADER_SIZE) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, FORMAT_VERSION);
+            buffer.putInt(RECORD_COUNT_OFFSET, 0);
+            return;
+        }
+        map((int) Math.max(INITIAL_CAPACITY, Math.min(MAX_CAPACITY, (fileSize - HEADER_SIZE) / RECORD_SIZE)));
+        if(buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IllegalStateException("Not a match store file or unsupported format version");
+        }
+
+        // Rebuild the heap indexes from the mapped records
+        recordCount = buffer.getInt(RECORD_COUNT_OFFSET);
+        for (int record = 0; record < recordCount; record++) {
+            int position = position(record);
+            recordsByMatchId.put(buffer.getLong(position + MATCH_ID_OFFSET), record);
+            if(buffer.get(position + LIVE_OFFSET) == 1) {
+                MatchSnapshot snapshot = snapshotAt(record);
+                liveIndex.index(record, snapshot, new Match(snapshot));
+            }
+        }
+    }
+
+    private void map(int recordCapacity) throws IOException {
+        capacity = recordCapacity;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) recordCapacity * RECORD_SIZE);
+    }
+
+    private int appendRecord(long matchId, MatchSnapshot snapshot) {
+        if(recordCount == capacity) {
+            if(capacity == MAX_CAPACITY) {
+                throw new IllegalStateException("Match store is full: " + capacity + " matches");
+            }
+            try {
+                buffer.force();
+                map((int) Math.min(MAX_CAPACITY, (long) capacity << 1));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to grow match store", e);
+            }
+        }
+        int record = recordCount;
+        int position = position(record);
+        buffer.putLong(position + MATCH_ID_OFFSET, matchId);
+        buffer.putInt(position + HOME_TEAM_OFFSET, fileTeamId(snapshot.homeTeam()));
+        buffer.putInt(position + AWAY_TEAM_OFFSET, fileTeamId(snapshot.awayTeam()));
+        buffer.putLong(position + START_TIME_OFFSET, EpochNanos.of(snapshot.startTime()));
+
+        // Publish the record by bumping the count only after it has been written
+        recordCount++;
+        buffer.putInt(RECORD_COUNT_OFFSET, recordCount);
+        recordsByMatchId.put(matchId, record);
+        return record;
+    }
+
+    private Match matchAt(int record) {
+        Match match = liveIndex.handle(record);
+        return match != null ? match : new Match(snapshotAt(record));
+    }
+
+    private MatchSnapshot snapshotAt(int record) {
+        int position = position(record);
+        return new MatchSnapshot(TimeOrderedMatchIdGenerator.encode(buffer.getLong(position + MATCH_ID_OFFSET)),
+                fileTeams.get(buffer.getInt(position + HOME_TEAM_OFFSET)),
+                fileTeams.get(buffer.getInt(position + AWAY_TEAM_OFFSET)),
+                new Score(buffer.getInt(position + HOME_SCORE_OFFSET), buffer.getInt(position + AWAY_SCORE_OFFSET),
+                        buffer.getLong(position + SCORE_VERSION_OFFSET)),
+                EpochNanos.toLocalDateTime(buffer.getLong(position + START_TIME_OFFSET)),
+                buffer.get(position + LIVE_OFFSET) == 1);
+    }
+
+    private int fileTeamId(Team team) {
+        Integer fileTeamId = fileTeamIds.get(team.id());
+        if(fileTeamId != null) {
+            return fileTeamId;
+        }
+        try {
+            teamsOut.writeUTF(team.name());
+            teamsOut.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write team " + team.name(), e);
+        }
+        return registerFileTeam(team);
+    }
+
+    private int registerFileTeam(Team team) {
+        fileTeams.add(team);
+        fileTeamIds.put(team.id(), fileTeams.size() - 1);
+        return fileTeams.size() - 1;
+    }
+
+    // Team names are appended before the first record using them, so a torn last name after a crash
+    // is not referenced by any record and is cut off, like the torn tail of the match journal
+    private void loadTeams(Path teamsFile) throws IOException {
+        if(!Files.exists(teamsFile)) {
+            return;
+        }
+        byte[] content = Files.readAllBytes(teamsFile);
+        DataInputStream teamsIn = new DataInputStream(new ByteArrayInputStream(content));
+        int complete = 0;
+        try {
+            while (complete < content.length) {
+                registerFileTeam(teams.register(teamsIn.readUTF()));
+                complete = content.length - teamsIn.available();
+            }
+        } catch (EOFException | UTFDataFormatException e) {
+            // Torn last entry
+        }
+        if(complete < content.length) {
+            try (FileChannel teamsChannel = FileChannel.open(teamsFile, StandardOpenOption.WRITE)) {
+                teamsChannel.truncate(complete);
+                teamsChannel.force(true);
+            }
+        }
+    }
+
+    private static int position(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,381 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.Score;
+import com.example.football.scoreboard.model.TeamRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only binary journal of match states with group commit: appends from all threads are collected into one
+// batch, written and fsynced together by a single flusher thread, and every append returns once its batch is durable.
+// Frame layout: int payload length, int CRC32 of the payload, payload.
+public class MatchJournal implements Closeable {
+
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    // Largest payload encode can produce: three modified UTF-8 strings of up to 65535 bytes plus the fixed fields
+    private static final int MAX_PAYLOAD_SIZE = 3 * (2 + 65_535) + Long.BYTES + 2 * Integer.BYTES + Long.BYTES + 1;
+
+    private final FileChannel channel;
+
+    private final Duration commitDelay;
+
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition pendingAvailable = lock.newCondition();
+
+    private final Condition batchCommitted = lock.newCondition();
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    private int pendingCount;
+
+    private long appendedSequence;
+
+    private long durableSequence;
+
+    private long commitCount;
+
+    private IOException failure;
+
+    private boolean closed;
+
+    private final Thread flusher;
+
+    public MatchJournal(Path file) {
+        this(file, Duration.ofMillis(1), 1024);
+    }
+
+    // commitDelay: how long a batch may wait for more appends before it is written, maxBatchSize: appends per batch
+    public MatchJournal(Path file, Duration commitDelay, int maxBatchSize) {
+        if(commitDelay == null || commitDelay.isNegative() || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Commit delay must not be negative and batch size must be positive");
+        }
+        this.commitDelay = commitDelay;
+        this.maxBatchSize = maxBatchSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            truncateTornTail();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open match journal " + file, e);
+        }
+        this.flusher = new Thread(this::flushLoop, "match-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    // Append the current state of a match, returns once the entry has been forced to disk
+    public void append(Match match) {
+        appendAll(List.of(match));
+    }
+
+    // Append the current state of several matches, returns once all entries have been forced to disk
+    public void appendAll(Collection<Match> matches) {
+        if(matches.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            checkUsable();
+            // Snapshot under the lock so concurrent saves of one match reach the journal in state order, and encode
+            // the whole call before queueing any of it so an entry that cannot be encoded leaves nothing behind
+            List<byte[]> frames = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                frames.add(encode(match.snapshot()));
+            }
+            for (byte[] frame : frames) {
+                pending.write(frame, 0, frame.length);
+                pendingCount++;
+            }
+            long sequence = ++appendedSequence;
+            pendingAvailable.signal();
+
+            while (durableSequence < sequence) {
+                checkUsable();
+                batchCommitted.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Replay every complete entry in append order
+    public void replay(Consumer<MatchSnapshot> consumer) {
+        lock.lock();
+        try {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                byte[] payload = readFrame(position, size);
+                if(payload == null) {
+                    break;
+                }
+                consumer.accept(decode(payload));
+                position += FRAME_HEADER_SIZE + payload.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay match journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Number of fsynced batches, each one covers one or more appends
+    public long getCommitCount() {
+        lock.lock();
+        try {
+            return commitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if(closed) {
+                return;
+            }
+            // Let the flusher commit what is pending before it stops
+            while (durableSequence < appendedSequence && failure == null) {
+                batchCommitted.awaitUninterruptibly();
+            }
+            closed = true;
+            pendingAvailable.signalAll();
+            batchCommitted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close match journal", e);
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            byte[] batch;
+            long batchSequence;
+            lock.lock();
+            try {
+                while (pendingCount == 0 && !closed) {
+                    pendingAvailable.awaitUninterruptibly();
+                }
+                if(pendingCount == 0) {
+                    return;
+                }
+                awaitMoreAppends();
+                batch = pending.toByteArray();
+                batchSequence = appendedSequence;
+                pending = new ByteArrayOutputStream(Math.max(32, batch.length));
+                pendingCount = 0;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException writeFailure = write(batch);
+
+            lock.lock();
+            try {
+                if(writeFailure != null) {
+                    failure = writeFailure;
+                } else {
+                    durableSequence = batchSequence;
+                    commitCount++;
+                }
+                batchCommitted.signalAll();
+                if(failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Give concurrent writers a short window to join the batch, unless it is already full
+    private void awaitMoreAppends() {
+        long remaining = commitDelay.toNanos();
+        while (remaining > 0 && pendingCount < maxBatchSize && !closed) {
+            try {
+                remaining = pendingAvailable.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private IOException write(byte[] batch) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(batch);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, channel.size());
+            }
+            channel.force(false);
+            return null;
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    private void checkUsable() {
+        if(failure != null) {
+            throw new UncheckedIOException("Match journal write failed", failure);
+        }
+        if(closed) {
+            throw new IllegalStateException("Match journal is closed");
+        }
+    }
+
+    // A crash can leave a partially written last frame behind, drop it so new entries follow the last complete one.
+    // A bad frame followed by more data is not a torn write, the open fails instead of cutting off later entries.
+    private void truncateTornTail() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            byte[] payload = readFrame(position, size);
+            if(payload == null) {
+                break;
+            }
+            position += FRAME_HEADER_SIZE + payload.length;
+        }
+        if(position < size) {
+            if(!isTornTail(position, size)) {
+                throw new IOException("Corrupt match journal entry at offset " + position + " of " + size + " bytes");
+            }
+            channel.truncate(position);
+            channel.force(true);
+        }
+    }
+
+    // The last frame reaches the end of the file, or only zero fill is left after the last complete frame
+    private boolean isTornTail(long position, long size) throws IOException {
+        if(size - position < FRAME_HEADER_SIZE) {
+            return true;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        readFully(header, position);
+        int length = header.getInt(0);
+        if(length > 0 && length <= MAX_PAYLOAD_SIZE) {
+            return size - position - FRAME_HEADER_SIZE <= length;
+        }
+        ByteBuffer rest = ByteBuffer.allocate((int) Math.min(size - position, MAX_PAYLOAD_SIZE + FRAME_HEADER_SIZE));
+        for (long offset = position; offset < size; offset += rest.limit()) {
+            rest.clear().limit((int) Math.min(rest.capacity(), size - offset));
+            readFully(rest, offset);
+            for (int i = 0; i < rest.limit(); i++) {
+                if(rest.get(i) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private byte[] readFrame(long position, long size) throws IOException {
+        if(size - position < FRAME_HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        readFully(header, position);
+        int length = header.getInt(0);
+        int checksum = header.getInt(4);
+        if(length <= 0 || length > MAX_PAYLOAD_SIZE || size - position - FRAME_HEADER_SIZE < length) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, position + FRAME_HEADER_SIZE);
+        return checksum(payload.array()) == checksum ? payload.array() : null;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if(channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of match journal");
+            }
+        }
+    }
+
+    static byte[] encode(MatchSnapshot snapshot) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0); // frame length placeholder
+            out.writeInt(0); // checksum placeholder
+            out.writeUTF(snapshot.matchId());
+            out.writeUTF(snapshot.homeTeamName());
+            out.writeUTF(snapshot.awayTeamName());
+            out.writeLong(EpochNanos.of(snapshot.startTime()));
+            out.writeInt(snapshot.homeTeamScore());
+            out.writeInt(snapshot.awayTeamScore());
+            out.writeLong(snapshot.score().version());
+            out.writeBoolean(snapshot.live());
+
+            byte[] frame = bytes.toByteArray();
+            int length = frame.length - FRAME_HEADER_SIZE;
+            if(length > MAX_PAYLOAD_SIZE) {
+                throw new IllegalArgumentException("Journal entry of " + length + " bytes exceeds " + MAX_PAYLOAD_SIZE + " bytes");
+            }
+            ByteBuffer.wrap(frame)
+                    .putInt(0, length)
+                    .putInt(4, checksum(frame, FRAME_HEADER_SIZE, length));
+            return frame;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode journal entry", e);
+        }
+    }
+
+    static MatchSnapshot decode(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            TeamRegistry teams = TeamRegistry.global();
+            String matchId = in.readUTF();
+            String homeTeam = in.readUTF();
+            String awayTeam = in.readUTF();
+            long startTime = in.readLong();
+            Score score = new Score(in.readInt(), in.readInt(), in.readLong());
+            boolean live = in.readBoolean();
+            return new MatchSnapshot(matchId, teams.register(homeTeam), teams.register(awayTeam), score,
+                    EpochNanos.toLocalDateTime(startTime), live);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt journal entry", e);
+        }
+    }
+
+    private static int checksum(byte[] bytes) {
+        return checksum(bytes, 0, bytes.length);
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
@@ -1,29 +1,168 @@
 package com.example.football.scoreboard.impl;
 
+import com.example.football.scoreboard.event.BackpressurePolicy;
+import com.example.football.scoreboard.event.MatchEvent;
+import com.example.football.scoreboard.event.MatchEventPublisher;
+import com.example.football.scoreboard.event.MatchFinished;
+import com.example.football.scoreboard.event.MatchStarted;
+import com.example.football.scoreboard.event.ScoreChanged;
+import com.example.football.scoreboard.id.MatchIdGenerator;
+import com.example.football.scoreboard.metrics.MetricsRegistry;
+import com.example.football.scoreboard.metrics.Timer;
 import com.example.football.scoreboard.service.MatchOperations;
 import com.example.football.scoreboard.service.MatchStorage;
 import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchFixture;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.MatchSummary;
+import com.example.football.scoreboard.model.ScoreUpdate;
+import com.example.football.scoreboard.model.ScoreUpdateResult;
+import com.example.football.scoreboard.model.SummaryRow;
 import com.example.football.scoreboard.exception.MatchNotFoundException;
 import com.example.football.scoreboard.exception.MatchUpdateException;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
 
 public class Scoreboard implements MatchOperations {
 
     private final MatchStorage matchStorage;
 
+    private final MatchIdGenerator matchIdGenerator;
+
+    // Serialises the team availability check with the save, so concurrent starts cannot double-book a team,
+    // bulk finishes take it as well so a batch is validated and applied as one step
+    private final Object startLock = new Object();
+
+    // A mutation is applied, saved and published while holding the stripe of its match, so the events of one match
+    // follow the order its states were applied in, and a failed save is reverted before the next change is made
+    private static final int MATCH_LOCK_STRIPES = 256;
+
+    private final ReentrantLock[] matchLocks = new ReentrantLock[MATCH_LOCK_STRIPES];
+
+    // Taken last: the summary version is bumped and the events are handed to subscribers as one step,
+    // so subscribers receive events in summary version order
+    private final Object publishLock = new Object();
+
+    // Live matches in summary order, seeded from the storage on first use and then maintained on every mutation
+    private final LiveRanking liveRanking = new LiveRanking();
+
+    private volatile boolean rankingSeeded;
+
+    // Bumped by every mutation, the cached summary is valid while its version matches
+    private final AtomicLong summaryVersion = new AtomicLong();
+
+    private volatile MatchSummary cachedSummary;
+
+    // Typed rows of the summary, rebuilt when the summary version moves on
+    private volatile SummaryRows cachedRows;
+
+    // UTF-8 form of the cached summary for buffer writers, re-encoded only when the summary version moves on
+    private volatile EncodedSummary encodedSummary;
+
+    private final MatchEventPublisher eventPublisher;
+
+    private final Timer startTimer;
+
+    private final Timer updateTimer;
+
+    private final Timer batchUpdateTimer;
+
+    private final Timer finishTimer;
+
+    private final Timer summaryTimer;
+
+    private final Timer startBatchTimer;
+
+    private final Timer finishBatchTimer;
+
+    private final Timer summaryPageTimer;
+
+    private final Timer rowsTimer;
+
+    private final Timer rowsPageTimer;
+
+    private final Timer appendSummaryTimer;
+
+    private final Timer bufferSummaryTimer;
+
     public Scoreboard(MatchStorage matchStorage) {
+        this(matchStorage, MatchIdGenerator.defaultGenerator());
+    }
+
+    public Scoreboard(MatchStorage matchStorage, MatchIdGenerator matchIdGenerator) {
+        this(matchStorage, matchIdGenerator, new MatchEventPublisher());
+    }
+
+    public Scoreboard(MatchStorage matchStorage, MatchIdGenerator matchIdGenerator, MatchEventPublisher eventPublisher) {
+        this(matchStorage, matchIdGenerator, eventPublisher, MetricsRegistry.disabled());
+    }
+
+    // Operation counts and latencies are recorded under "scoreboard.*" when the registry is enabled
+    public Scoreboard(MatchStorage matchStorage, MatchIdGenerator matchIdGenerator, MatchEventPublisher eventPublisher,
+                      MetricsRegistry metrics) {
+        if(metrics == null) {
+            throw new IllegalArgumentException("Metrics registry cannot be null");
+        }
+        if(matchIdGenerator == null) {
+            throw new IllegalArgumentException("Match ID generator cannot be null");
+        }
+        if(eventPublisher == null) {
+            throw new IllegalArgumentException("Event publisher cannot be null");
+        }
         this.matchStorage = matchStorage;
+        this.matchIdGenerator = matchIdGenerator;
+        for (int i = 0; i < matchLocks.length; i++) {
+            matchLocks[i] = new ReentrantLock();
+        }
+        this.eventPublisher = eventPublisher;
+        this.startTimer = metrics.timer("scoreboard.startMatch");
+        this.updateTimer = metrics.timer("scoreboard.updateMatchScore");
+        this.batchUpdateTimer = metrics.timer("scoreboard.updateMatchScores");
+        this.finishTimer = metrics.timer("scoreboard.finishMatch");
+        this.summaryTimer = metrics.timer("scoreboard.getMatchSummary");
+        this.startBatchTimer = metrics.timer("scoreboard.startMatches");
+        this.finishBatchTimer = metrics.timer("scoreboard.finishMatches");
+        this.summaryPageTimer = metrics.timer("scoreboard.getMatchSummaryPage");
+        this.rowsTimer = metrics.timer("scoreboard.getMatchSummaryRows");
+        this.rowsPageTimer = metrics.timer("scoreboard.getMatchSummaryRowsPage");
+        this.appendSummaryTimer = metrics.timer("scoreboard.writeMatchSummaryText");
+        this.bufferSummaryTimer = metrics.timer("scoreboard.writeMatchSummaryBytes");
+        metrics.gauge("scoreboard.liveMatches", liveRanking::size);
+        metrics.gauge("scoreboard.summaryVersion", summaryVersion::get);
     }
 
     // Create a new match, sets it as live, and saves it to storage
     @Override
     public Match startMatch(String homeTeam, String awayTeam) {
+        long start = startTimer.start();
+        try {
+            validateTeams(homeTeam, awayTeam);
+            synchronized (startLock) {
+                return startNewMatch(homeTeam, awayTeam);
+            }
+        } finally {
+            startTimer.stop(start);
+        }
+    }
+
+    private void validateTeams(String homeTeam, String awayTeam) {
         //Validate input
         if(homeTeam == null || homeTeam.trim().isEmpty() || awayTeam == null || awayTeam.trim().isEmpty()) {
             throw new IllegalArgumentException("Home and Away Teams must not be null or empty");
@@ -33,24 +172,100 @@ public class Scoreboard implements MatchOperations {
         if(homeTeam.equals(awayTeam)) {
             throw new IllegalArgumentException("Home and Away Teams must be different.");
         }
+    }
+
+    // Start a whole matchday at once: the batch is checked for team conflicts with live matches and within itself,
+    // then all matches are saved together, or none of them if any fixture is rejected
+    @Override
+    public List<Match> startMatches(Collection<MatchFixture> fixtures) {
+        long start = startBatchTimer.start();
+        try {
+            return startNewMatches(fixtures);
+        } finally {
+            startBatchTimer.stop(start);
+        }
+    }
+
+    private List<Match> startNewMatches(Collection<MatchFixture> fixtures) {
+        if(fixtures == null) {
+            throw new IllegalArgumentException("Fixtures cannot be null");
+        }
+        for (MatchFixture fixture : fixtures) {
+            if(fixture == null) {
+                throw new IllegalArgumentException("Fixture cannot be null");
+            }
+            validateTeams(fixture.homeTeam(), fixture.awayTeam());
+        }
+
+        synchronized (startLock) {
+            Set<String> batchTeams = new HashSet<>();
+            for (MatchFixture fixture : fixtures) {
+                checkTeamAvailable(fixture.homeTeam(), batchTeams);
+                checkTeamAvailable(fixture.awayTeam(), batchTeams);
+            }
+
+            List<Match> matches = new ArrayList<>(fixtures.size());
+            for (MatchFixture fixture : fixtures) {
+                Match match = createNewMatch(fixture.homeTeam(), fixture.awayTeam());
+                match.setLive(true);
+                matches.add(match);
+            }
+            if(matches.isEmpty()) {
+                return matches;
+            }
+
+            int[] locked = lockMatches(matches.stream().map(Match::getMatchId).toList());
+            try {
+                List<MatchSnapshot> started = matches.stream().map(Match::snapshot).toList();
+                try {
+                    matchStorage.saveMatches(matches);
+                } catch (RuntimeException e) {
+                    // Fixtures stored before the failure would otherwise stay indexed as live and block their teams
+                    matches.forEach(match -> match.setLive(false));
+                    resave(matches.stream().filter(this::isStored).toList(), e);
+                    throw e;
+                }
+                LiveRanking ranking = liveRanking();
+                matches.forEach(ranking::update);
+                publish(MatchStarted::new, started);
+            } finally {
+                unlockMatches(locked);
+            }
+            return matches;
+        }
+    }
+
+    private void checkTeamAvailable(String team, Set<String> batchTeams) {
+        if(!batchTeams.add(team)) {
+            throw new IllegalStateException("Cannot start the matches: the team " + team + " appears in more than one fixture.");
+        }
+        if(matchStorage.isTeamInLiveMatch(team)) {
+            throw new IllegalStateException("Cannot start the matches: a match involving the team " + team + " is already in progress.");
+        }
+    }
+
+    private Match startNewMatch(String homeTeam, String awayTeam) {
         // Check the same combination match is already in progress
         if(matchStorage.findMatch(homeTeam, awayTeam) != null) {
             throw new IllegalStateException("A match between these two teams is already in progress.");
         }
 
         // check if one of the teams involved in already in progress match
-        Optional<Match> matchOptional = matchStorage.getAllMatches().stream()
-                .filter(match -> isTeamInvolved(match, homeTeam) ||  isTeamInvolved(match, awayTeam))
-                .filter(Match::isLive)
-                .findFirst();
-
-        matchOptional.ifPresent(match ->{
+        if(matchStorage.isTeamInLiveMatch(homeTeam) || matchStorage.isTeamInLiveMatch(awayTeam)) {
             throw new IllegalStateException("Cannot start the match: a match involving either the home team " + homeTeam + " or the away team " + awayTeam + " is already in progress.");
-        });
+        }
 
         Match match = createNewMatch(homeTeam, awayTeam);
         match.setLive(true);
-        matchStorage.saveMatch(match);
+        int[] locked = lockMatches(List.of(match.getMatchId()));
+        try {
+            MatchSnapshot started = match.snapshot();
+            matchStorage.saveMatch(match);
+            liveRanking().update(match);
+            publish(MatchStarted::new, List.of(started));
+        } finally {
+            unlockMatches(locked);
+        }
         return match;
     }
 
@@ -73,8 +288,22 @@ public class Scoreboard implements MatchOperations {
                 .orElseThrow(() -> new MatchNotFoundException("No match found with Home Team: "+homeTeam +" Away Team: "+ awayTeam));
     }
 
+    @Override
+    public MatchSnapshot getMatchSnapshot(String matchId) {
+        return getMatch(matchId).snapshot();
+    }
+
     @Override
     public void updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore) {
+        long start = updateTimer.start();
+        try {
+            applyMatchScore(matchId, homeTeamScore, awayTeamScore);
+        } finally {
+            updateTimer.stop(start);
+        }
+    }
+
+    private void applyMatchScore(String matchId, int homeTeamScore, int awayTeamScore) {
 
         if (homeTeamScore < 0 || awayTeamScore < 0) {
             throw new IllegalArgumentException("Score cannot be negative");
@@ -83,14 +312,178 @@ public class Scoreboard implements MatchOperations {
         Match match = Optional.ofNullable(matchStorage.findMatch(matchId))
                        .orElseThrow(() -> new MatchNotFoundException("No match found with ID: "+matchId));
 
-        match.setHomeTeamScore(homeTeamScore);
-        match.setAwayTeamScore(awayTeamScore);
+        int[] locked = lockMatches(List.of(match.getMatchId()));
+        try {
+            Change change = change(match, current -> current.withScore(homeTeamScore, awayTeamScore));
+            saveUpdatedScore(change);
+        } finally {
+            unlockMatches(locked);
+        }
+    }
+
+    @Override
+    public boolean updateMatchScore(String matchId, long expectedScoreVersion, int homeTeamScore, int awayTeamScore) {
+        long start = updateTimer.start();
+        try {
+            return applyMatchScore(matchId, expectedScoreVersion, homeTeamScore, awayTeamScore);
+        } finally {
+            updateTimer.stop(start);
+        }
+    }
+
+    private boolean applyMatchScore(String matchId, long expectedScoreVersion, int homeTeamScore, int awayTeamScore) {
+
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            throw new IllegalArgumentException("Score cannot be negative");
+        }
+
+        Match match = Optional.ofNullable(matchStorage.findMatch(matchId))
+                .orElseThrow(() -> new MatchNotFoundException("No match found with ID: "+matchId));
+
+        int[] locked = lockMatches(List.of(match.getMatchId()));
+        try {
+            // Reject the update if the score moved on since the caller read it
+            Change change = change(match, current -> current.score().version() == expectedScoreVersion
+                    ? current.withScore(homeTeamScore, awayTeamScore) : null);
+            if (change == null) {
+                return false;
+            }
+
+            saveUpdatedScore(change);
+            return true;
+        } finally {
+            unlockMatches(locked);
+        }
+    }
+
+    // Apply a burst of score updates with one storage write and one summary invalidation,
+    // entries that cannot be applied are reported in the results instead of failing the batch
+    @Override
+    public List<ScoreUpdateResult> updateMatchScores(Collection<ScoreUpdate> updates) {
+        long start = batchUpdateTimer.start();
+        try {
+            return applyMatchScores(updates);
+        } finally {
+            batchUpdateTimer.stop(start);
+        }
+    }
+
+    private List<ScoreUpdateResult> applyMatchScores(Collection<ScoreUpdate> updates) {
+        if(updates == null) {
+            throw new IllegalArgumentException("Score updates cannot be null");
+        }
+
+        List<String> matchIds = new ArrayList<>(updates.size());
+        for (ScoreUpdate update : updates) {
+            if(update != null && update.matchId() != null) {
+                matchIds.add(update.matchId());
+            }
+        }
+        int[] locked = lockMatches(matchIds);
+        try {
+            List<ScoreUpdateResult> results = new ArrayList<>(updates.size());
+            // A match updated several times in the batch is saved once with its last score
+            Map<String, Match> updatedMatches = new LinkedHashMap<>();
+            List<Change> changes = new ArrayList<>();
+            for (ScoreUpdate update : updates) {
+                results.add(applyScoreUpdate(update, updatedMatches, changes));
+            }
+
+            if(!updatedMatches.isEmpty()) {
+                save(changes, () -> matchStorage.saveMatches(updatedMatches.values()));
+                LiveRanking ranking = liveRanking();
+                updatedMatches.values().forEach(ranking::update);
+                // The last state applied to each match in the batch
+                Map<String, MatchSnapshot> scored = new LinkedHashMap<>();
+                changes.forEach(change -> scored.put(change.match().getMatchId(), change.applied()));
+                publish(ScoreChanged::new, List.copyOf(scored.values()));
+            }
+            return results;
+        } finally {
+            unlockMatches(locked);
+        }
+    }
+
+    private ScoreUpdateResult applyScoreUpdate(ScoreUpdate update, Map<String, Match> updatedMatches, List<Change> changes) {
+        if(update == null || update.matchId() == null || update.matchId().trim().isEmpty()) {
+            return ScoreUpdateResult.rejected(update, ScoreUpdateResult.Status.INVALID, "Match ID cannot be null or empty");
+        }
+        if(update.homeTeamScore() < 0 || update.awayTeamScore() < 0) {
+            return ScoreUpdateResult.rejected(update, ScoreUpdateResult.Status.INVALID, "Score cannot be negative");
+        }
+
+        Match match = updatedMatches.get(update.matchId());
+        if(match == null) {
+            try {
+                match = matchStorage.findMatch(update.matchId());
+            } catch (MatchNotFoundException e) {
+                match = null;
+            }
+        }
+        if(match == null) {
+            return ScoreUpdateResult.rejected(update, ScoreUpdateResult.Status.NOT_FOUND, "No match found with ID: "+update.matchId());
+        }
+
+        Change change = change(match, current -> current.withScore(update.homeTeamScore(), update.awayTeamScore()));
+        changes.add(change);
+        updatedMatches.put(match.getMatchId(), match);
+        return ScoreUpdateResult.updated(update, change.applied().score());
+    }
+
+    private void saveUpdatedScore(Change change) {
+        Match match = change.match();
+        save(List.of(change), () -> matchStorage.saveMatch(match));
+        liveRanking().update(match);
+        publish(ScoreChanged::new, List.of(change.applied()));
+    }
+
+    // A change made to a Match before its save (e.g. the journal append) is taken back when the save fails,
+    // so readers never keep seeing a state that was not stored
+    private record Change(Match match, MatchSnapshot previous, MatchSnapshot applied) {
+
+        // Skipped if the match was changed again in the meantime, the later change is saved on its own
+        void revert() {
+            match.compareAndSet(applied, previous);
+        }
+    }
+
+    // Swap in the snapshot built from the current one, null if the change rejects the current snapshot
+    private static Change change(Match match, UnaryOperator<MatchSnapshot> change) {
+        while (true) {
+            MatchSnapshot current = match.snapshot();
+            MatchSnapshot applied = change.apply(current);
+            if (applied == null) {
+                return null;
+            }
+            if (match.compareAndSet(current, applied)) {
+                return new Change(match, current, applied);
+            }
+        }
+    }
 
-        matchStorage.saveMatch(match);
+    private static void save(List<Change> changes, Runnable save) {
+        try {
+            save.run();
+        } catch (RuntimeException e) {
+            // Newest first, so a match changed several times in a batch ends up in its original state
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).revert();
+            }
+            throw e;
+        }
     }
 
     @Override
     public void finishMatch(String matchId) {
+        long start = finishTimer.start();
+        try {
+            finishLiveMatch(matchId);
+        } finally {
+            finishTimer.stop(start);
+        }
+    }
+
+    private void finishLiveMatch(String matchId) {
 
         if(matchId == null || matchId.trim().isEmpty()) {
             throw new IllegalArgumentException("Match ID cannot be null or empty");
@@ -98,62 +491,370 @@ public class Scoreboard implements MatchOperations {
 
         Match match = Optional.ofNullable(matchStorage.findMatch(matchId))
                         .orElseThrow(() ->new MatchNotFoundException("No match found with ID: "+matchId));
-        if(! match.isLive()) {
-            throw new IllegalStateException("The match is already finished");
-        }
 
-        match.setLive(false); // Set the match as finished
+        int[] locked = lockMatches(List.of(match.getMatchId()));
+        try {
+            // Set the match as finished, only one of concurrent finishes can make the live to finished transition
+            Change change = change(match, current -> current.live() ? current.withLive(false) : null);
+            if(change == null) {
+                throw new IllegalStateException("The match is already finished");
+            }
+
+            try {
+                save(List.of(change), () -> matchStorage.saveMatch(match)); // Save the updated match state
+            }catch (Exception e) {
+                throw new MatchUpdateException("Failed to update the match status", e);
+            }
+            liveRanking().remove(match.getMatchId());
+            publish(MatchFinished::new, List.of(change.applied()));
+        } finally {
+            unlockMatches(locked);
+        }
+    }
 
+    // Finish several matches at once: every ID must belong to a distinct live match, otherwise nothing is finished.
+    // The batch is stored with one saveMatches call; when it fails, the live states are taken back and saved again,
+    // so matches the default saveMatches already stored as finished are indexed as live again.
+    @Override
+    public void finishMatches(Collection<String> matchIds) {
+        long start = finishBatchTimer.start();
         try {
-            matchStorage.saveMatch(match); // Save the updated match state
-        }catch (Exception e) {
-            throw new MatchUpdateException("Failed to update the match status", e);
+            finishLiveMatches(matchIds);
+        } finally {
+            finishBatchTimer.stop(start);
+        }
+    }
+
+    private void finishLiveMatches(Collection<String> matchIds) {
+        if(matchIds == null) {
+            throw new IllegalArgumentException("Match IDs cannot be null");
+        }
+
+        synchronized (startLock) {
+            Map<String, Match> matches = new LinkedHashMap<>();
+            for (String matchId : matchIds) {
+                if(matchId == null || matchId.trim().isEmpty()) {
+                    throw new IllegalArgumentException("Match ID cannot be null or empty");
+                }
+                Match match = Optional.ofNullable(matchStorage.findMatch(matchId))
+                        .orElseThrow(() -> new MatchNotFoundException("No match found with ID: "+matchId));
+                if(! match.isLive()) {
+                    throw new IllegalStateException("The match " + matchId + " is already finished");
+                }
+                if(matches.putIfAbsent(matchId, match) != null) {
+                    throw new IllegalArgumentException("The match " + matchId + " appears more than once");
+                }
+            }
+            if(matches.isEmpty()) {
+                return;
+            }
+
+            int[] locked = lockMatches(matches.keySet());
+            try {
+                // A concurrent finishMatch does not take startLock, the live to finished transition decides who wins
+                List<Change> changes = new ArrayList<>(matches.size());
+                for (Map.Entry<String, Match> entry : matches.entrySet()) {
+                    Change change = change(entry.getValue(), current -> current.live() ? current.withLive(false) : null);
+                    if(change == null) {
+                        changes.forEach(Change::revert);
+                        throw new IllegalStateException("The match " + entry.getKey() + " is already finished");
+                    }
+                    changes.add(change);
+                }
+                try {
+                    save(changes, () -> matchStorage.saveMatches(matches.values()));
+                }catch (Exception e) {
+                    resave(matches.values(), e);
+                    throw new MatchUpdateException("Failed to update the match status", e);
+                }
+                LiveRanking ranking = liveRanking();
+                matches.keySet().forEach(ranking::remove);
+                publish(MatchFinished::new, changes.stream().map(Change::applied).toList());
+            } finally {
+                unlockMatches(locked);
+            }
         }
     }
 
     @Override
     public List<String> getMatchSummary() {
-        // Retrieve and filter live matches
-        List<Match> liveMatches = getLiveMatches();
+        return getMatchSummarySnapshot().lines();
+    }
+
+    // Served from the cached summary when it is current, otherwise from the first offset + limit ranked
+    // matches, so a top 10 screen never formats the whole summary
+    @Override
+    public List<String> getMatchSummary(int offset, int limit) {
+        long start = summaryPageTimer.start();
+        try {
+            return buildSummaryPage(offset, limit);
+        } finally {
+            summaryPageTimer.stop(start);
+        }
+    }
+
+    private List<String> buildSummaryPage(int offset, int limit) {
+        if(offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        LiveRanking ranking = liveRanking();
+        MatchSummary summary = cachedSummary;
+        if (summary != null && summary.version() == summaryVersion.get()) {
+            List<String> lines = summary.lines();
+            int from = Math.min(offset, lines.size());
+            return lines.subList(from, (int) Math.min((long) from + limit, lines.size()));
+        }
 
-        // Sort the matches by total score and start time
-        List<Match> sortedMatches =  sortMatches(liveMatches);
+        List<LiveRanking.Entry> page = ranking.rankedEntries(offset, limit);
+        List<String> lines = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            lines.add((offset+i+1) +". "+ page.get(i).line());
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    @Override
+    public List<String> getTopMatchSummary(int limit) {
+        return getMatchSummary(0, limit);
+    }
+
+    @Override
+    public MatchSummary getMatchSummarySnapshot() {
+        long start = summaryTimer.start();
+        try {
+            return buildMatchSummary();
+        } finally {
+            summaryTimer.stop(start);
+        }
+    }
+
+    private MatchSummary buildMatchSummary() {
+        // Seed before reading the version, so a first summary never gets tagged with a pre-seed version
+        LiveRanking ranking = liveRanking();
+        long version = summaryVersion.get();
+        MatchSummary summary = cachedSummary;
+        if (summary != null && summary.version() == version) {
+            return summary;
+        }
+
+        // Live matches are already sorted by total score and start time
+        List<LiveRanking.Entry> rankedMatches = ranking.rankedEntries();
 
         // format tthe sorted matches into desired summary format
-        return formattedMacthes(sortedMatches);
+        summary = new MatchSummary(version, formattedMacthes(rankedMatches));
+        cachedSummary = summary;
+        return summary;
     }
 
-    private List<Match> getLiveMatches() {
-        return matchStorage.getAllMatches().stream()
-                .filter(Match::isLive).collect(Collectors.toList());
+    @Override
+    public List<SummaryRow> getMatchSummaryRows() {
+        long start = rowsTimer.start();
+        try {
+            return buildSummaryRows();
+        } finally {
+            rowsTimer.stop(start);
+        }
     }
 
-    private List<Match> sortMatches(List<Match> matches) {
-        return matches.stream()
-                .filter(Match::isLive)
-                .sorted(Comparator.comparingInt(Match::getTotalScore).reversed()
-                        .thenComparing(Match::getStartTime, Comparator.reverseOrder()))
-                .collect(Collectors.toList());
+    private List<SummaryRow> buildSummaryRows() {
+        // Seed before reading the version, as for the line summary
+        LiveRanking ranking = liveRanking();
+        long version = summaryVersion.get();
+        SummaryRows rows = cachedRows;
+        if (rows != null && rows.version() == version) {
+            return rows.rows();
+        }
+        rows = new SummaryRows(version, summaryRows(ranking.rankedMatches(), 0));
+        cachedRows = rows;
+        return rows.rows();
     }
 
-    private List<String> formattedMacthes(List<Match> matches) {
-        return IntStream.range(0, matches.size())
-                .mapToObj(i-> {
-                    Match match = matches.get(i);
-                    return (i+1) +". "+ match.getHomeTeam() +" "+ match.getHomeTeamScore()+
-                            " - "+match.getAwayTeam() +" "+ match.getAwayTeamScore();
+    @Override
+    public List<SummaryRow> getMatchSummaryRows(int offset, int limit) {
+        long start = rowsPageTimer.start();
+        try {
+            return buildSummaryRowsPage(offset, limit);
+        } finally {
+            rowsPageTimer.stop(start);
+        }
+    }
 
-                }).collect(Collectors.toList());
+    private List<SummaryRow> buildSummaryRowsPage(int offset, int limit) {
+        if(offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        LiveRanking ranking = liveRanking();
+        SummaryRows rows = cachedRows;
+        if (rows != null && rows.version() == summaryVersion.get()) {
+            int from = Math.min(offset, rows.rows().size());
+            return rows.rows().subList(from, (int) Math.min((long) from + limit, rows.rows().size()));
+        }
+        List<MatchSnapshot> page = ranking.rankedEntries(offset, limit).stream().map(LiveRanking.Entry::snapshot).toList();
+        return summaryRows(page, offset);
     }
 
+    private List<SummaryRow> summaryRows(List<MatchSnapshot> matches, int offset) {
+        List<SummaryRow> rows = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            rows.add(SummaryRow.of(offset+i+1, matches.get(i)));
+        }
+        return List.copyOf(rows);
+    }
 
-    private Match createNewMatch(String homeTeam, String awayTeam) {
-        LocalDateTime now = LocalDateTime.now();
-        return new Match(homeTeam, awayTeam, 0, 0, now);
+    private record SummaryRows(long version, List<SummaryRow> rows) {
+    }
 
+    // Appends the cached lines, so a reader polling an unchanged summary allocates nothing
+    @Override
+    public long writeMatchSummary(Appendable out) throws IOException {
+        long start = appendSummaryTimer.start();
+        try {
+            return appendMatchSummary(out);
+        } finally {
+            appendSummaryTimer.stop(start);
+        }
+    }
+
+    private long appendMatchSummary(Appendable out) throws IOException {
+        if(out == null) {
+            throw new IllegalArgumentException("Output cannot be null");
+        }
+        MatchSummary summary = buildMatchSummary();
+        List<String> lines = summary.lines();
+        for (int i = 0; i < lines.size(); i++) {
+            out.append(lines.get(i)).append('\n');
+        }
+        return summary.version();
+    }
+
+    // Nothing is written when the summary does not fit, the buffer then throws BufferOverflowException
+    @Override
+    public long writeMatchSummary(ByteBuffer out) {
+        long start = bufferSummaryTimer.start();
+        try {
+            return putMatchSummary(out);
+        } finally {
+            bufferSummaryTimer.stop(start);
+        }
+    }
+
+    private long putMatchSummary(ByteBuffer out) {
+        if(out == null) {
+            throw new IllegalArgumentException("Output cannot be null");
+        }
+        MatchSummary summary = buildMatchSummary();
+        EncodedSummary encoded = encodedSummary;
+        if(encoded == null || encoded.version() != summary.version()) {
+            encoded = new EncodedSummary(summary.version(), encode(summary.lines()));
+            encodedSummary = encoded;
+        }
+        out.put(encoded.utf8());
+        return encoded.version();
+    }
+
+    private byte[] encode(List<String> lines) {
+        StringBuilder text = new StringBuilder();
+        lines.forEach(line -> text.append(line).append('\n'));
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record EncodedSummary(long version, byte[] utf8) {
+    }
+
+    @Override
+    public long getSummaryVersion() {
+        return summaryVersion.get();
+    }
+
+    // Receive MatchStarted, ScoreChanged and MatchFinished events with the publisher's default buffer and policy
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber) {
+        eventPublisher.subscribe(subscriber);
+    }
+
+    public void subscribe(Flow.Subscriber<? super MatchEvent> subscriber, int bufferCapacity, BackpressurePolicy policy) {
+        eventPublisher.subscribe(subscriber, bufferCapacity, policy);
     }
 
-    private boolean isTeamInvolved(Match match, String team) {
-        return match.getHomeTeam().equals(team) || match.getAwayTeam().equals(team) ;
+    // A failed saveMatches may have stored part of the batch: store the rolled back state of each match one by one,
+    // so the storage indexes agree with the matches again. Failures of the rollback are added to the original one.
+    private void resave(Collection<Match> matches, Exception failure) {
+        for (Match match : matches) {
+            try {
+                matchStorage.saveMatch(match);
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    private boolean isStored(Match match) {
+        try {
+            return matchStorage.findMatch(match.getMatchId()) != null;
+        } catch (MatchNotFoundException e) {
+            return false;
+        }
+    }
+
+    // One summary version for the whole mutation, each event carries the state the mutation applied
+    private void publish(BiFunction<MatchSnapshot, Long, MatchEvent> event, List<MatchSnapshot> snapshots) {
+        synchronized (publishLock) {
+            long version = summaryVersion.incrementAndGet();
+            // Skip building events nobody listens to
+            if(eventPublisher.hasSubscribers()) {
+                for (MatchSnapshot snapshot : snapshots) {
+                    eventPublisher.publish(event.apply(snapshot, version));
+                }
+            }
+        }
+    }
+
+    // Locks the stripes of the given matches in stripe order, so batches over overlapping matches cannot deadlock
+    private int[] lockMatches(Collection<String> matchIds) {
+        int[] stripes = matchIds.stream().mapToInt(Scoreboard::stripe).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            matchLocks[stripe].lock();
+        }
+        return stripes;
+    }
+
+    private void unlockMatches(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            matchLocks[stripes[i]].unlock();
+        }
+    }
+
+    private static int stripe(String matchId) {
+        int hash = matchId.hashCode();
+        return (hash ^ (hash >>> 16)) & (MATCH_LOCK_STRIPES - 1);
+    }
+
+    private LiveRanking liveRanking() {
+        if (!rankingSeeded) {
+            synchronized (liveRanking) {
+                if (!rankingSeeded) {
+                    // Pick up matches that were already live in the storage before this scoreboard was created
+                    matchStorage.getLiveMatches().forEach(liveRanking::update);
+                    rankingSeeded = true;
+                }
+            }
+        }
+        return liveRanking;
+    }
+
+    // Only the rank is added here, each entry renders its line once per score change
+    private List<String> formattedMacthes(List<LiveRanking.Entry> matches) {
+        List<String> lines = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            lines.add((i+1) +". "+ matches.get(i).line());
+        }
+        return lines;
+    }
+
+
+    private Match createNewMatch(String homeTeam, String awayTeam) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Match(matchIdGenerator.nextId(), homeTeam, awayTeam, 0, 0, now);
+
     }
 }
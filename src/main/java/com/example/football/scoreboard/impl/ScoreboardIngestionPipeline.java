@@ -0,0 +1,352 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSummary;
+import com.example.football.scoreboard.model.ScoreUpdate;
+import com.example.football.scoreboard.model.ScoreUpdateResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Single-writer ingestion: producers claim slots in a pre-allocated ring buffer and a single writer thread applies
+// the mutations to the scoreboard in claim order. Consecutive score updates are applied as one batch, and readers get
+// the summary published after each batch, so the storage behind the scoreboard is only ever touched by one thread.
+public class ScoreboardIngestionPipeline implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private enum CommandType { START, UPDATE, FINISH }
+
+    // Reused ring entry, published to the writer by writing its sequence last
+    private static final class Slot {
+        volatile long sequence = -1;
+        CommandType type;
+        String matchId;
+        String homeTeam;
+        String awayTeam;
+        int homeTeamScore;
+        int awayTeamScore;
+        CompletableFuture<Match> started;
+        CompletableFuture<Void> finished;
+        Match startedMatch;
+        RuntimeException failure;
+
+        // Callers are only told about a start or finish once the summary that includes it is published
+        void completeAndClear() {
+            if(started != null) {
+                if(failure == null) {
+                    started.complete(startedMatch);
+                } else {
+                    started.completeExceptionally(failure);
+                }
+            } else if(finished != null) {
+                if(failure == null) {
+                    finished.complete(null);
+                } else {
+                    finished.completeExceptionally(failure);
+                }
+            }
+            matchId = null;
+            homeTeam = null;
+            awayTeam = null;
+            started = null;
+            finished = null;
+            startedMatch = null;
+            failure = null;
+        }
+    }
+
+    private final Scoreboard scoreboard;
+
+    private final Consumer<ScoreUpdateResult> rejectedUpdateHandler;
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    // Number of claimed sequences, close() sets the CLOSED bit so no claim can slip in after the last one is taken
+    private final AtomicLong claims = new AtomicLong();
+
+    // Highest sequence the writer has applied, slots up to it can be reused by producers
+    private volatile long appliedSequence = -1;
+
+    private volatile MatchSummary summary;
+
+    // Set when the writer stops, by close or by a failure, submissions it did not apply are failed from then on
+    private volatile boolean writerStopped;
+
+    private volatile Throwable writerFailure;
+
+    private final Thread writer;
+
+    private final List<ScoreUpdate> pendingUpdates = new ArrayList<>();
+
+    public ScoreboardIngestionPipeline(Scoreboard scoreboard) {
+        this(scoreboard, DEFAULT_CAPACITY, result -> { });
+    }
+
+    // capacity must be a power of two, rejected score updates are reported on the writer thread
+    public ScoreboardIngestionPipeline(Scoreboard scoreboard, int capacity, Consumer<ScoreUpdateResult> rejectedUpdateHandler) {
+        if(scoreboard == null || rejectedUpdateHandler == null) {
+            throw new IllegalArgumentException("Scoreboard and rejected update handler cannot be null");
+        }
+        if(capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.scoreboard = scoreboard;
+        this.rejectedUpdateHandler = rejectedUpdateHandler;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.writer = new Thread(this::writeLoop, "scoreboard-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public CompletableFuture<Match> startMatch(String homeTeam, String awayTeam) {
+        CompletableFuture<Match> started = new CompletableFuture<>();
+        long sequence = claim();
+        Slot slot = slots[(int) sequence & mask];
+        slot.type = CommandType.START;
+        slot.homeTeam = homeTeam;
+        slot.awayTeam = awayTeam;
+        slot.started = started;
+        publish(slot, sequence);
+        return started;
+    }
+
+    // Fire and forget, returns the sequence to pass to awaitApplied when the caller needs to see the result
+    public long updateMatchScore(String matchId, int homeTeamScore, int awayTeamScore) {
+        long sequence = claim();
+        Slot slot = slots[(int) sequence & mask];
+        slot.type = CommandType.UPDATE;
+        slot.matchId = matchId;
+        slot.homeTeamScore = homeTeamScore;
+        slot.awayTeamScore = awayTeamScore;
+        publish(slot, sequence);
+        return sequence;
+    }
+
+    public CompletableFuture<Void> finishMatch(String matchId) {
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        long sequence = claim();
+        Slot slot = slots[(int) sequence & mask];
+        slot.type = CommandType.FINISH;
+        slot.matchId = matchId;
+        slot.finished = finished;
+        publish(slot, sequence);
+        return finished;
+    }
+
+    // Summary published by the writer after its last batch, reading it never touches the storage
+    public MatchSummary getMatchSummary() {
+        MatchSummary published = summary;
+        return published != null ? published : scoreboard.getMatchSummarySnapshot();
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public void awaitApplied(long sequence) {
+        while (appliedSequence < sequence) {
+            if(writerStopped) {
+                throw new IllegalStateException("Ingestion pipeline is closed");
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    // Wait until everything submitted so far has been applied
+    public void flush() {
+        awaitApplied(lastClaimedSequence(claims.get()));
+    }
+
+    // Apply what has been submitted, then stop the writer
+    @Override
+    public void close() {
+        markClosed();
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long claim() {
+        long sequence;
+        do {
+            sequence = claims.get();
+            if(sequence < 0 || writerStopped) {
+                throw new IllegalStateException("Ingestion pipeline is closed");
+            }
+        } while (!claims.compareAndSet(sequence, sequence + 1));
+        // Wait for the writer to free the slot when the ring is full
+        int spins = 0;
+        while (sequence - slots.length > appliedSequence) {
+            if(writerStopped) {
+                throw new IllegalStateException("Ingestion pipeline is closed");
+            }
+            if(++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        return sequence;
+    }
+
+    // Written last, so the writer sees a complete slot. If the writer stopped in the meantime it may have swept the
+    // ring before this slot was published, so the producer fails it itself
+    private void publish(Slot slot, long sequence) {
+        slot.sequence = sequence;
+        if(writerStopped) {
+            failUnapplied();
+        }
+    }
+
+    // Fail the futures of every published slot the writer did not apply, called by the writer when it stops and by
+    // producers publishing after that. Completing a future twice is a no-op, so overlapping sweeps are harmless.
+    private synchronized void failUnapplied() {
+        long last = lastClaimedSequence(claims.get());
+        for (long sequence = appliedSequence + 1; sequence <= last; sequence++) {
+            Slot slot = slots[(int) sequence & mask];
+            if(slot.sequence != sequence) {
+                continue;
+            }
+            IllegalStateException failure = new IllegalStateException("Ingestion pipeline writer stopped", writerFailure);
+            if(slot.started != null) {
+                slot.started.completeExceptionally(failure);
+            } else if(slot.finished != null) {
+                slot.finished.completeExceptionally(failure);
+            }
+        }
+    }
+
+    // The claim count at the moment of the CAS is the terminal sequence the writer drains up to
+    private void markClosed() {
+        long current;
+        do {
+            current = claims.get();
+        } while (current >= 0 && !claims.compareAndSet(current, current | CLOSED));
+    }
+
+    private static long lastClaimedSequence(long claims) {
+        return (claims & ~CLOSED) - 1;
+    }
+
+    private void writeLoop() {
+        try {
+            // Seed the ranking on the writer thread, so the storage is never read from anywhere else
+            summary = scoreboard.getMatchSummarySnapshot();
+            int idleSpins = 0;
+            while (true) {
+                long applied = applyBatch();
+                long current = claims.get();
+                if(applied > 0) {
+                    idleSpins = 0;
+                } else if(current < 0 && appliedSequence == lastClaimedSequence(current)) {
+                    // Closed and drained up to the last sequence claimed before close
+                    return;
+                } else if(++idleSpins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            writerFailure = e;
+            throw e;
+        } finally {
+            // A dead writer refuses new claims, waiting producers see it through writerStopped
+            markClosed();
+            writerStopped = true;
+            failUnapplied();
+        }
+    }
+
+    private long applyBatch() {
+        long next = appliedSequence + 1;
+        long count = 0;
+        while (count < MAX_BATCH_SIZE) {
+            Slot slot = slots[(int) (next + count) & mask];
+            if(slot.sequence != next + count) {
+                break;
+            }
+            apply(slot);
+            count++;
+        }
+        applyPendingUpdates();
+        if(count > 0) {
+            // Hand the batch over to readers in one step
+            summary = scoreboard.getMatchSummarySnapshot();
+            // Free the slots only after the whole batch is applied
+            for (long sequence = next; sequence < next + count; sequence++) {
+                slots[(int) sequence & mask].completeAndClear();
+            }
+            appliedSequence = next + count - 1;
+        }
+        return count;
+    }
+
+    private void apply(Slot slot) {
+        if(slot.type == CommandType.UPDATE) {
+            pendingUpdates.add(new ScoreUpdate(slot.matchId, slot.homeTeamScore, slot.awayTeamScore));
+            return;
+        }
+        // Keep the submission order: updates queued before a start or finish are applied first
+        applyPendingUpdates();
+        try {
+            if(slot.type == CommandType.START) {
+                slot.startedMatch = scoreboard.startMatch(slot.homeTeam, slot.awayTeam);
+            } else {
+                scoreboard.finishMatch(slot.matchId);
+            }
+        } catch (RuntimeException e) {
+            slot.failure = e;
+        }
+    }
+
+    private void applyPendingUpdates() {
+        if(pendingUpdates.isEmpty()) {
+            return;
+        }
+        try {
+            for (ScoreUpdateResult result : scoreboard.updateMatchScores(pendingUpdates)) {
+                if(!result.isUpdated()) {
+                    reject(result);
+                }
+            }
+        } catch (RuntimeException e) {
+            for (ScoreUpdate update : pendingUpdates) {
+                reject(ScoreUpdateResult.rejected(update, ScoreUpdateResult.Status.FAILED, e.getMessage()));
+            }
+        }
+        pendingUpdates.clear();
+    }
+
+    // A failing handler must not stop the writer, the other slots in the batch still have to be applied
+    private void reject(ScoreUpdateResult result) {
+        try {
+            rejectedUpdateHandler.accept(result);
+        } catch (RuntimeException e) {
+            // Nothing left to report the rejection to
+        }
+    }
+}
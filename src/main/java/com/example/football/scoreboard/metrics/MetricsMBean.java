@@ -0,0 +1,93 @@
+package com.example.football.scoreboard.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Read-only JMX view of a registry: every timer shows up as <name>.count, .meanNanos, .p50Nanos, .p99Nanos,
+// .p999Nanos and .maxNanos, every gauge under its own name
+class MetricsMBean implements DynamicMBean {
+
+    private static final String[] TIMER_STATISTICS = {"count", "meanNanos", "p50Nanos", "p99Nanos", "p999Nanos", "maxNanos"};
+
+    private final MetricsRegistry registry;
+
+    MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Long gauge = registry.getGaugeValues().get(attribute);
+        if(gauge != null) {
+            return gauge;
+        }
+        int separator = attribute.lastIndexOf('.');
+        Timer timer = separator > 0 ? registry.getTimers().get(attribute.substring(0, separator)) : null;
+        if(timer == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return switch (attribute.substring(separator + 1)) {
+            case "count" -> timer.getCount();
+            case "meanNanos" -> timer.getMeanNanos();
+            case "p50Nanos" -> timer.getPercentileNanos(50);
+            case "p99Nanos" -> timer.getPercentileNanos(99);
+            case "p999Nanos" -> timer.getPercentileNanos(99.9);
+            case "maxNanos" -> timer.getMaxNanos();
+            default -> throw new AttributeNotFoundException(attribute);
+        };
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // Skipped, as required for getAttributes
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        // The MBean has no operations
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    // Rebuilt on every call, so timers and gauges registered later become visible
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (String timer : registry.getTimers().keySet()) {
+            for (String statistic : TIMER_STATISTICS) {
+                attributes.add(new MBeanAttributeInfo(timer + "." + statistic, "long", statistic + " of " + timer, true, false, false));
+            }
+        }
+        for (Map.Entry<String, Long> gauge : registry.getGaugeValues().entrySet()) {
+            attributes.add(new MBeanAttributeInfo(gauge.getKey(), "long", gauge.getKey(), true, false, false));
+        }
+        return new MBeanInfo(MetricsMBean.class.getName(), "Scoreboard operation metrics",
+                attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.football.scoreboard.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+// Named timers and gauges of the scoreboard. The disabled registry hands out a shared no-op timer,
+// so components can always be instrumented and pay almost nothing unless metrics are switched on.
+public class MetricsRegistry {
+
+    private static final MetricsRegistry DISABLED = new MetricsRegistry(false);
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static MetricsRegistry create() {
+        return new MetricsRegistry(true);
+    }
+
+    public static MetricsRegistry disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Timer timer(String name) {
+        if(name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Metric name cannot be null or empty");
+        }
+        return enabled ? timers.computeIfAbsent(name, key -> new Timer()) : Timer.DISABLED;
+    }
+
+    public void gauge(String name, LongSupplier value) {
+        if(name == null || name.isBlank() || value == null) {
+            throw new IllegalArgumentException("Metric name and value cannot be null or empty");
+        }
+        if(enabled) {
+            gauges.put(name, value);
+        }
+    }
+
+    public Map<String, Timer> getTimers() {
+        return Collections.unmodifiableMap(new TreeMap<>(timers));
+    }
+
+    public Map<String, Long> getGaugeValues() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    // Publish the metrics on the platform MBean server, e.g. under "com.example.football.scoreboard:type=Metrics"
+    public ObjectName registerMBean(String objectName) {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if(server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new MetricsMBean(this), name);
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register metrics MBean " + objectName, e);
+        }
+    }
+
+    public void unregisterMBean(ObjectName name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if(server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister metrics MBean " + name, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.football.scoreboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Call count and latency distribution of one operation. The disabled timer skips the clock reads and
+// records nothing, so instrumented code costs two predictable branches when metrics are off.
+public class Timer {
+
+    static final Timer DISABLED = new Timer(false);
+
+    private final boolean enabled;
+
+    private final LatencyHistogram histogram;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    Timer() {
+        this(true);
+    }
+
+    private Timer(boolean enabled) {
+        this.enabled = enabled;
+        this.histogram = enabled ? new LatencyHistogram() : null;
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void stop(long startNanos) {
+        if(enabled) {
+            record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public void record(long nanos) {
+        if(!enabled) {
+            return;
+        }
+        histogram.record(nanos);
+        count.increment();
+        totalNanos.add(nanos);
+        if(nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMeanNanos() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : totalNanos.sum() / calls;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getPercentileNanos(double percentile) {
+        return enabled ? histogram.getValueAtPercentile(percentile) : 0;
+    }
+}
@@ -1,98 +1,132 @@
 package com.example.football.scoreboard.model;
 
+import com.example.football.scoreboard.id.MatchIdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Match {
-    private final String matchId;
-
-    private final String homeTeam;
-
-    private final String awayTeam;
 
-    private int homeTeamScore;
+    // Copy-on-write state: every change swaps in a new immutable snapshot, so reads never lock or see a partial update
+    private final AtomicReference<MatchSnapshot> state;
 
-    private int awayTeamScore;
-
-    private final LocalDateTime startTime;
-
-    private boolean isLive;
+    public Match(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
+        this(MatchIdGenerator.defaultGenerator().nextId(), homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime);
+    }
 
-    private int totalScore;
+    public Match(String matchId, String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
+        TeamRegistry teams = TeamRegistry.global();
+        this.state = new AtomicReference<>(new MatchSnapshot(matchId, teams.register(homeTeam), teams.register(awayTeam),
+                new Score(homeTeamScore, awayTeamScore, 0), startTime, false)); // Not live by default
+    }
 
-    public Match(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
-        this.matchId = UUID.randomUUID().toString();
-        this.homeTeam = homeTeam;
-        this.awayTeam = awayTeam;
-        this.homeTeamScore = homeTeamScore;
-        this.awayTeamScore = awayTeamScore;
-        this.startTime = startTime;
-        this.isLive = false; // Default value
+    // Restore a match handle from a previously taken snapshot
+    public Match(MatchSnapshot snapshot) {
+        this.state = new AtomicReference<>(snapshot);
     }
 
     public String getMatchId() {
-        return matchId;
+        return state.get().matchId();
     }
 
     public String getHomeTeam() {
-        return homeTeam;
+        return state.get().homeTeamName();
     }
 
     public String getAwayTeam() {
-        return awayTeam;
+        return state.get().awayTeamName();
+    }
+
+    public int getHomeTeamId() {
+        return state.get().homeTeam().id();
+    }
+
+    public int getAwayTeamId() {
+        return state.get().awayTeam().id();
     }
 
     public void setHomeTeamScore(int homeTeamScore) {
-        this.homeTeamScore = homeTeamScore;
+        state.updateAndGet(current -> current.withScore(homeTeamScore, current.awayTeamScore()));
     }
 
     public int getHomeTeamScore() {
-        return homeTeamScore;
+        return state.get().homeTeamScore();
     }
 
     public void setAwayTeamScore(int awayTeamScore) {
-        this.awayTeamScore = awayTeamScore;
+        state.updateAndGet(current -> current.withScore(current.homeTeamScore(), awayTeamScore));
     }
 
     public int getAwayTeamScore() {
-        return awayTeamScore;
+        return state.get().awayTeamScore();
+    }
+
+    public Score getScore() {
+        return state.get().score();
+    }
+
+    // Atomically replace both scores, returns the published score
+    public Score updateScore(int homeTeamScore, int awayTeamScore) {
+        return state.updateAndGet(current -> current.withScore(homeTeamScore, awayTeamScore)).score();
+    }
+
+    // Optimistic update: only applied if nobody changed the score since the caller read the expected version
+    public boolean compareAndSetScore(long expectedVersion, int homeTeamScore, int awayTeamScore) {
+        MatchSnapshot current = state.get();
+        while (current.score().version() == expectedVersion) {
+            if (state.compareAndSet(current, current.withScore(homeTeamScore, awayTeamScore))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    // Swap in a new snapshot only if the match still holds the expected one
+    public boolean compareAndSet(MatchSnapshot expected, MatchSnapshot updated) {
+        return state.compareAndSet(expected, updated);
     }
 
     public void setLive(boolean live) {
-        isLive = live;
+        state.updateAndGet(current -> current.withLive(live));
     }
 
     public boolean isLive() {
-        return isLive;
+        return state.get().live();
     }
 
-
     public int getTotalScore() {
-        return homeTeamScore + awayTeamScore;
+        return state.get().totalScore();
     }
 
     public LocalDateTime getStartTime() {
-        return startTime;
+        return state.get().startTime();
+    }
+
+    public MatchSnapshot snapshot() {
+        return state.get();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        Match match = (Match) o;
-        return homeTeamScore == match.homeTeamScore &&
-                awayTeamScore == match.awayTeamScore &&
-                isLive == match.isLive &&
-                totalScore == match.totalScore &&
-                Objects.equals(matchId, match.matchId) &&
-                Objects.equals(homeTeam, match.homeTeam) &&
-                Objects.equals(awayTeam, match.awayTeam) &&
-                Objects.equals(startTime,match.startTime);
+        MatchSnapshot current = state.get();
+        MatchSnapshot other = ((Match) o).state.get();
+        return current.homeTeamScore() == other.homeTeamScore() &&
+                current.awayTeamScore() == other.awayTeamScore() &&
+                current.live() == other.live() &&
+                Objects.equals(current.matchId(), other.matchId()) &&
+                current.homeTeam().id() == other.homeTeam().id() &&
+                current.awayTeam().id() == other.awayTeam().id() &&
+                Objects.equals(current.startTime(), other.startTime());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(matchId, homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, isLive, totalScore);
+        MatchSnapshot current = state.get();
+        return Objects.hash(current.matchId(), current.homeTeam().id(), current.awayTeam().id(), current.homeTeamScore(),
+                current.awayTeamScore(), current.startTime(), current.live());
     }
 }
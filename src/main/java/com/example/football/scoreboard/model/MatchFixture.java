@@ -0,0 +1,5 @@
+package com.example.football.scoreboard.model;
+
+// Home and away team of a match to be started as part of a batch
+public record MatchFixture(String homeTeam, String awayTeam) {
+}
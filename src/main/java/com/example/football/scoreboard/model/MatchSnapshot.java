@@ -0,0 +1,36 @@
+package com.example.football.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+// Immutable state of a match at one point in time, safe to share between threads and to cache without copying
+public record MatchSnapshot(String matchId, Team homeTeam, Team awayTeam, Score score,
+                            LocalDateTime startTime, boolean live) {
+
+    public String homeTeamName() {
+        return homeTeam.name();
+    }
+
+    public String awayTeamName() {
+        return awayTeam.name();
+    }
+
+    public int homeTeamScore() {
+        return score.homeTeamScore();
+    }
+
+    public int awayTeamScore() {
+        return score.awayTeamScore();
+    }
+
+    public int totalScore() {
+        return score.totalScore();
+    }
+
+    public MatchSnapshot withScore(int homeTeamScore, int awayTeamScore) {
+        return new MatchSnapshot(matchId, homeTeam, awayTeam, score.next(homeTeamScore, awayTeamScore), startTime, live);
+    }
+
+    public MatchSnapshot withLive(boolean live) {
+        return new MatchSnapshot(matchId, homeTeam, awayTeam, score, startTime, live);
+    }
+}
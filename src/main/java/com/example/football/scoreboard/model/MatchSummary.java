@@ -0,0 +1,15 @@
+package com.example.football.scoreboard.model;
+
+import java.util.List;
+
+// Immutable summary of the live matches, tagged with the scoreboard version it was built from
+public record MatchSummary(long version, List<String> lines) {
+
+    public MatchSummary {
+        lines = List.copyOf(lines);
+    }
+
+    public boolean hasChangedSince(long knownVersion) {
+        return version != knownVersion;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.football.scoreboard.model;
+
+// Both team scores of a match published together, the version increases with every score change
+public record Score(int homeTeamScore, int awayTeamScore, long version) {
+
+    public int totalScore() {
+        return homeTeamScore + awayTeamScore;
+    }
+
+    Score next(int homeTeamScore, int awayTeamScore) {
+        return new Score(homeTeamScore, awayTeamScore, version + 1);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.football.scoreboard.model;
+
+// One entry of a batch score update, validated when the batch is applied
+public record ScoreUpdate(String matchId, int homeTeamScore, int awayTeamScore) {
+}
@@ -0,0 +1,25 @@
+package com.example.football.scoreboard.model;
+
+// Outcome of one entry of a batch score update, the score is set only when the update was applied
+public record ScoreUpdateResult(ScoreUpdate update, Status status, Score score, String message) {
+
+    public enum Status {
+        UPDATED,
+        INVALID,
+        NOT_FOUND,
+        // The update could not be stored
+        FAILED
+    }
+
+    public static ScoreUpdateResult updated(ScoreUpdate update, Score score) {
+        return new ScoreUpdateResult(update, Status.UPDATED, score, null);
+    }
+
+    public static ScoreUpdateResult rejected(ScoreUpdate update, Status status, String message) {
+        return new ScoreUpdateResult(update, status, null, message);
+    }
+
+    public boolean isUpdated() {
+        return status == Status.UPDATED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.football.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+// One ranked line of the summary as fields, for consumers that serialise the summary instead of displaying it
+public record SummaryRow(int rank, String matchId, String homeTeam, String awayTeam,
+                         int homeTeamScore, int awayTeamScore, LocalDateTime startTime) {
+
+    public static SummaryRow of(int rank, MatchSnapshot match) {
+        return new SummaryRow(rank, match.matchId(), match.homeTeamName(), match.awayTeamName(),
+                match.homeTeamScore(), match.awayTeamScore(), match.startTime());
+    }
+
+    // Same text as the matching line of getMatchSummary
+    public String line() {
+        return rank +". "+ homeTeam +" "+ homeTeamScore +" - "+ awayTeam +" "+ awayTeamScore;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.football.scoreboard.model;
+
+// A registered team: compact integer ID plus the canonical instance of its name
+public record Team(int id, String name) {
+
+    // Both team IDs packed into one primitive key identifying a fixture
+    public static long fixtureKey(Team homeTeam, Team awayTeam) {
+        return ((long) homeTeam.id() << 32) | (awayTeam.id() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
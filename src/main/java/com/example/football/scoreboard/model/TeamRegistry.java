@@ -0,0 +1,59 @@
+package com.example.football.scoreboard.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Assigns every team name a compact integer ID and a canonical Team instance, so matches share one copy of each
+// name and compare teams by ID. Registration is thread-safe, lookups by name or ID never lock.
+public class TeamRegistry {
+
+    private static final TeamRegistry GLOBAL = new TeamRegistry();
+
+    private final ConcurrentMap<String, Team> teamsByName = new ConcurrentHashMap<>();
+
+    private volatile Team[] teamsById = new Team[64];
+
+    private int teamCount;
+
+    public static TeamRegistry global() {
+        return GLOBAL;
+    }
+
+    public Team register(String name) {
+        if(name == null) {
+            throw new IllegalArgumentException("Team name cannot be null");
+        }
+        Team team = teamsByName.get(name);
+        return team != null ? team : teamsByName.computeIfAbsent(name, this::newTeam);
+    }
+
+    // Returns the registered team, or null for a name that never took part in a match
+    public Team find(String name) {
+        return name == null ? null : teamsByName.get(name);
+    }
+
+    public Team get(int id) {
+        Team[] teams = teamsById;
+        Team team = id >= 0 && id < teams.length ? teams[id] : null;
+        if(team == null) {
+            throw new IllegalArgumentException("No team registered with ID: " + id);
+        }
+        return team;
+    }
+
+    public int size() {
+        return teamsByName.size();
+    }
+
+    private synchronized Team newTeam(String name) {
+        Team team = new Team(teamCount++, name);
+        Team[] teams = teamsById;
+        if(team.id() == teams.length) {
+            teams = Arrays.copyOf(teams, teams.length << 1);
+        }
+        teams[team.id()] = team;
+        teamsById = teams; // volatile write publishes the new team to lock-free readers
+        return team;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.exception.MatchUpdateException;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.service.MatchOperations;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Line protocol of one operator connection, fields are separated by '|':
+//   START|home|away                     -> OK|matchId
+//   UPDATE|matchId|homeScore|awayScore  -> OK
+//   FINISH|matchId                      -> OK
+//   GET|matchId                         -> OK|matchId|home|away|homeScore|awayScore|live
+//   SUMMARY                             -> OK|count followed by one line per live match
+//   QUIT                                -> BYE
+// Failures are answered with ERROR|message and the session continues.
+class ClientSession {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\|");
+
+    private final MatchOperations scoreboard;
+
+    private final BufferedReader reader;
+
+    private final Writer writer;
+
+    ClientSession(MatchOperations scoreboard, InputStream input, OutputStream output) {
+        this.scoreboard = scoreboard;
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    void run() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if(line.isBlank()) {
+                continue;
+            }
+            String[] fields = SEPARATOR.split(line.trim(), -1);
+            if(fields[0].equalsIgnoreCase("QUIT")) {
+                respond("BYE");
+                return;
+            }
+            respond(execute(fields));
+        }
+    }
+
+    String execute(String[] fields) {
+        try {
+            return switch (fields[0].toUpperCase()) {
+                case "START" -> {
+                    expectFields(fields, 3);
+                    Match match = scoreboard.startMatch(fields[1], fields[2]);
+                    yield "OK|" + match.getMatchId();
+                }
+                case "UPDATE" -> {
+                    expectFields(fields, 4);
+                    scoreboard.updateMatchScore(fields[1], parseScore(fields[2]), parseScore(fields[3]));
+                    yield "OK";
+                }
+                case "FINISH" -> {
+                    expectFields(fields, 2);
+                    scoreboard.finishMatch(fields[1]);
+                    yield "OK";
+                }
+                case "GET" -> {
+                    expectFields(fields, 2);
+                    MatchSnapshot match = scoreboard.getMatchSnapshot(fields[1]);
+                    yield "OK|" + match.matchId() + "|" + match.homeTeamName() + "|" + match.awayTeamName() + "|"
+                            + match.homeTeamScore() + "|" + match.awayTeamScore() + "|" + match.live();
+                }
+                case "SUMMARY" -> {
+                    List<String> summary = scoreboard.getMatchSummary();
+                    StringBuilder response = new StringBuilder("OK|").append(summary.size());
+                    summary.forEach(row -> response.append('\n').append(row));
+                    yield response.toString();
+                }
+                default -> "ERROR|Unknown command: " + fields[0];
+            };
+        } catch (IllegalArgumentException | IllegalStateException | MatchNotFoundException | MatchUpdateException e) {
+            return "ERROR|" + e.getMessage();
+        } catch (RuntimeException e) {
+            // Storage failures such as UncheckedIOException fail the command, not the operator's session
+            return "ERROR|" + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void expectFields(String[] fields, int count) {
+        if(fields.length != count) {
+            throw new IllegalArgumentException("Expected " + (count - 1) + " arguments for " + fields[0].toUpperCase());
+        }
+    }
+
+    private int parseScore(String score) {
+        try {
+            return Integer.parseInt(score.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid score: " + score);
+        }
+    }
+
+    private void respond(String response) throws IOException {
+        writer.write(response);
+        writer.write('\n');
+        writer.flush();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.SummaryRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Minimal JSON support for the HTTP API: writes match documents and reads flat request objects
+// with string, number and boolean values, which is all the API accepts
+final class Json {
+
+    private Json() {
+    }
+
+    static String match(MatchSnapshot match) {
+        StringBuilder json = new StringBuilder(160);
+        json.append("{\"matchId\":");
+        quote(json, match.matchId());
+        json.append(",\"homeTeam\":");
+        quote(json, match.homeTeamName());
+        json.append(",\"awayTeam\":");
+        quote(json, match.awayTeamName());
+        json.append(",\"homeTeamScore\":").append(match.homeTeamScore())
+                .append(",\"awayTeamScore\":").append(match.awayTeamScore())
+                .append(",\"scoreVersion\":").append(match.score().version())
+                .append(",\"live\":").append(match.live())
+                .append(",\"startTime\":");
+        quote(json, match.startTime().toString());
+        return json.append('}').toString();
+    }
+
+    static String summary(long version, List<String> lines) {
+        StringBuilder json = new StringBuilder(32 + lines.size() * 32);
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        for (int i = 0; i < lines.size(); i++) {
+            if(i > 0) {
+                json.append(',');
+            }
+            quote(json, lines.get(i));
+        }
+        return json.append("]}").toString();
+    }
+
+    static String summaryRows(long version, List<SummaryRow> rows) {
+        StringBuilder json = new StringBuilder(32 + rows.size() * 160);
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        for (int i = 0; i < rows.size(); i++) {
+            SummaryRow row = rows.get(i);
+            if(i > 0) {
+                json.append(',');
+            }
+            json.append("{\"rank\":").append(row.rank()).append(",\"matchId\":");
+            quote(json, row.matchId());
+            json.append(",\"homeTeam\":");
+            quote(json, row.homeTeam());
+            json.append(",\"awayTeam\":");
+            quote(json, row.awayTeam());
+            json.append(",\"homeTeamScore\":").append(row.homeTeamScore())
+                    .append(",\"awayTeamScore\":").append(row.awayTeamScore())
+                    .append(",\"startTime\":");
+            quote(json, row.startTime().toString());
+            json.append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        quote(json, message == null ? "" : message);
+        return json.append('}').toString();
+    }
+
+    static void quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if(c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    // Parse a flat object, values are returned as String, Long, Boolean or null
+    static Map<String, Object> parseObject(String text) {
+        Parser parser = new Parser(text);
+        parser.skipWhitespace();
+        Map<String, Object> object = parser.object();
+        parser.skipWhitespace();
+        if(!parser.atEnd()) {
+            throw new IllegalArgumentException("Invalid JSON: unexpected content after the object");
+        }
+        return object;
+    }
+
+    private static final class Parser {
+
+        private final String text;
+
+        private int position;
+
+        Parser(String text) {
+            this.text = text == null ? "" : text;
+        }
+
+        Map<String, Object> object() {
+            Map<String, Object> object = new HashMap<>();
+            expect('{');
+            skipWhitespace();
+            if(peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = string();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                object.put(key, value());
+                skipWhitespace();
+                char next = next();
+                if(next == '}') {
+                    return object;
+                }
+                if(next != ',') {
+                    throw new IllegalArgumentException("Invalid JSON: expected ',' or '}' at " + (position - 1));
+                }
+            }
+        }
+
+        private Object value() {
+            char c = peek();
+            if(c == '"') {
+                return string();
+            }
+            if(c == '-' || (c >= '0' && c <= '9')) {
+                return number();
+            }
+            if(text.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if(text.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            if(text.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            throw new IllegalArgumentException("Invalid JSON: unsupported value at " + position);
+        }
+
+        private Long number() {
+            int start = position;
+            if(peek() == '-') {
+                position++;
+            }
+            while (!atEnd() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            try {
+                return Long.parseLong(text.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid JSON: expected an integer at " + start);
+            }
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if(c == '"') {
+                    return value.toString();
+                }
+                if(c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if(position + 4 > text.length()) {
+                            throw new IllegalArgumentException("Invalid JSON: truncated unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> throw new IllegalArgumentException("Invalid JSON: bad escape at " + (position - 1));
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            if(next() != expected) {
+                throw new IllegalArgumentException("Invalid JSON: expected '" + expected + "' at " + (position - 1));
+            }
+        }
+
+        private char peek() {
+            if(atEnd()) {
+                throw new IllegalArgumentException("Invalid JSON: unexpected end of input");
+            }
+            return text.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        void skipWhitespace() {
+            while (!atEnd() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        boolean atEnd() {
+            return position >= text.length();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSummary;
+import com.example.football.scoreboard.model.SummaryRow;
+import com.example.football.scoreboard.service.MatchOperations;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// JSON over HTTP front end built on the JDK HTTP server:
+//   POST /matches                    {"homeTeam":"..","awayTeam":".."}            -> 201 match
+//   GET  /matches/{id}                                                          -> 200 match
+//   GET  /matches?homeTeam=..&awayTeam=..                                       -> 200 live match
+//   PUT  /matches/{id}/score         {"homeTeamScore":1,"awayTeamScore":0}       -> 200 match
+//   POST /matches/{id}/finish                                                   -> 200 match
+//   GET  /summary                                                               -> 200 {"version":..,"matches":[..]}
+//   GET  /summary?offset=..&limit=..                                            -> 200 one page of the summary
+//   GET  /summary/rows[?offset=..&limit=..]                                     -> 200 {"version":..,"matches":[{"rank":..,..}]}
+//   GET  /summary/stream                                                        -> text/event-stream of summary deltas
+// Every response carries a Content-Length, so HTTP/1.1 connections stay open for the next request.
+public class ScoreboardHttpServer implements Closeable {
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    public static final Duration DEFAULT_SUMMARY_WINDOW = Duration.ofMillis(100);
+
+    private static final int STREAM_QUEUE_CAPACITY = 64;
+
+    private static final Duration STREAM_HEARTBEAT = Duration.ofSeconds(15);
+
+    private final MatchOperations scoreboard;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final SummaryDeltaStream summaryStream;
+
+    public ScoreboardHttpServer(MatchOperations scoreboard, int port) {
+        this(scoreboard, port, SessionExecutors.newSessionExecutor());
+    }
+
+    public ScoreboardHttpServer(MatchOperations scoreboard, int port, ExecutorService executor) {
+        this(scoreboard, port, executor, DEFAULT_SUMMARY_WINDOW);
+    }
+
+    // summaryWindow: changes within this window are pushed to stream clients as one delta
+    public ScoreboardHttpServer(MatchOperations scoreboard, int port, ExecutorService executor, Duration summaryWindow) {
+        if(scoreboard == null || executor == null) {
+            throw new IllegalArgumentException("Scoreboard and executor cannot be null");
+        }
+        this.scoreboard = scoreboard;
+        this.executor = executor;
+        this.summaryStream = new SummaryDeltaStream(scoreboard, summaryWindow, STREAM_QUEUE_CAPACITY);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to listen on port " + port, e);
+        }
+        server.createContext("/matches", this::handleMatches);
+        server.createContext("/summary", this::handleSummary);
+        server.createContext("/summary/stream", this::handleSummaryStream);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getStreamClientCount() {
+        return summaryStream.getClientCount();
+    }
+
+    @Override
+    public void close() {
+        summaryStream.close();
+        server.stop(0);
+        // Interrupt stream connections waiting for their next frame
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handleMatches(HttpExchange exchange) throws IOException {
+        handle(exchange, () -> {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            // path[0] is empty and path[1] is "matches"
+            if(path.length == 2) {
+                if(method.equals("POST")) {
+                    Map<String, Object> body = readBody(exchange);
+                    Match match = scoreboard.startMatch(stringField(body, "homeTeam"), stringField(body, "awayTeam"));
+                    return new Response(201, Json.match(match.snapshot()));
+                }
+                if(method.equals("GET")) {
+                    Map<String, String> query = query(exchange);
+                    Match match = scoreboard.getMatch(query.get("homeTeam"), query.get("awayTeam"));
+                    return new Response(200, Json.match(match.snapshot()));
+                }
+            } else if(path.length == 3 && method.equals("GET")) {
+                return new Response(200, Json.match(scoreboard.getMatchSnapshot(path[2])));
+            } else if(path.length == 4 && path[3].equals("score") && method.equals("PUT")) {
+                Map<String, Object> body = readBody(exchange);
+                scoreboard.updateMatchScore(path[2], scoreField(body, "homeTeamScore"), scoreField(body, "awayTeamScore"));
+                return new Response(200, Json.match(scoreboard.getMatchSnapshot(path[2])));
+            } else if(path.length == 4 && path[3].equals("finish") && method.equals("POST")) {
+                scoreboard.finishMatch(path[2]);
+                return new Response(200, Json.match(scoreboard.getMatchSnapshot(path[2])));
+            }
+            return new Response(path.length <= 4 ? 405 : 404, Json.error("Unsupported request: " + method + " " + exchange.getRequestURI().getPath()));
+        });
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        handle(exchange, () -> {
+            if(!exchange.getRequestMethod().equals("GET")) {
+                return new Response(405, Json.error("Unsupported request: " + exchange.getRequestMethod() + " /summary"));
+            }
+            Map<String, String> query = query(exchange);
+            boolean paged = query.containsKey("offset") || query.containsKey("limit");
+            String path = exchange.getRequestURI().getPath();
+            if(path.equals("/summary/rows")) {
+                long version = scoreboard.getSummaryVersion();
+                List<SummaryRow> rows = paged
+                        ? scoreboard.getMatchSummaryRows(intParameter(query, "offset", 0), intParameter(query, "limit", Integer.MAX_VALUE))
+                        : scoreboard.getMatchSummaryRows();
+                return new Response(200, Json.summaryRows(version, rows));
+            }
+            if(!path.equals("/summary")) {
+                return new Response(404, Json.error("Unsupported request: GET " + path));
+            }
+            if(paged) {
+                long version = scoreboard.getSummaryVersion();
+                List<String> page = scoreboard.getMatchSummary(intParameter(query, "offset", 0), intParameter(query, "limit", Integer.MAX_VALUE));
+                return new Response(200, Json.summary(version, page));
+            }
+            MatchSummary summary = scoreboard.getMatchSummarySnapshot();
+            return new Response(200, Json.summary(summary.version(), summary.lines()));
+        });
+    }
+
+    // Holds the exchange open and writes frames as the stream produces them, until the client disconnects
+    private void handleSummaryStream(HttpExchange exchange) throws IOException {
+        if(!exchange.getRequestMethod().equals("GET")) {
+            send(exchange, new Response(405, Json.error("Unsupported request: " + exchange.getRequestMethod() + " /summary/stream")));
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        SummaryDeltaStream.Client client = summaryStream.connect();
+        try (OutputStream output = exchange.getResponseBody()) {
+            while (!executor.isShutdown()) {
+                String frame = client.nextFrame(STREAM_HEARTBEAT);
+                // A comment line keeps idle connections from being dropped by proxies
+                output.write((frame != null ? frame : ": keep-alive\n\n").getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // Client disconnected
+        } finally {
+            summaryStream.disconnect(client);
+        }
+    }
+
+    private record Response(int status, String body) {
+    }
+
+    private interface Handler {
+        Response handle() throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            response = handler.handle();
+        } catch (MatchNotFoundException e) {
+            response = new Response(404, Json.error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            response = new Response(400, Json.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            response = new Response(409, Json.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            // MatchUpdateException and storage failures such as UncheckedIOException
+            response = new Response(500, Json.error(e.getMessage()));
+        }
+        send(exchange, response);
+    }
+
+    private void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(response.status(), body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            return Json.parseObject(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if(query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if(separator > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private String stringField(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if(value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException(name + " must be a string");
+        }
+        return (String) value;
+    }
+
+    private int intParameter(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if(value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+    }
+
+    private int scoreField(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if(!(value instanceof Long score) || score > Integer.MAX_VALUE || score < Integer.MIN_VALUE) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+        return score.intValue();
+    }
+}
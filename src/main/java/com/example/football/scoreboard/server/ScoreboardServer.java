@@ -0,0 +1,111 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.service.MatchOperations;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// TCP front end for a shared scoreboard: every connected operator runs a blocking session on its own
+// (virtual, when available) thread, so thousands of sessions do not need thousands of platform threads
+public class ScoreboardServer implements Closeable {
+
+    private final MatchOperations scoreboard;
+
+    private final ExecutorService sessionExecutor;
+
+    private final ServerSocket serverSocket;
+
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+
+    private final Thread acceptor;
+
+    private volatile boolean running = true;
+
+    public ScoreboardServer(MatchOperations scoreboard, int port) {
+        this(scoreboard, port, SessionExecutors.newSessionExecutor());
+    }
+
+    public ScoreboardServer(MatchOperations scoreboard, int port, ExecutorService sessionExecutor) {
+        if(scoreboard == null || sessionExecutor == null) {
+            throw new IllegalArgumentException("Scoreboard and session executor cannot be null");
+        }
+        this.scoreboard = scoreboard;
+        this.sessionExecutor = sessionExecutor;
+        try {
+            this.serverSocket = new ServerSocket();
+            this.serverSocket.setReuseAddress(true);
+            this.serverSocket.bind(new InetSocketAddress(port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to listen on port " + port, e);
+        }
+        this.acceptor = new Thread(this::acceptLoop, "scoreboard-acceptor");
+        this.acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getOpenSessions() {
+        return openSockets.size();
+    }
+
+    // Block the calling thread until the server is closed
+    public void awaitTermination() throws InterruptedException {
+        acceptor.join();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if(running) {
+                    System.out.println("Error: failed to accept a connection: " + e.getMessage());
+                    continue;
+                }
+                return;
+            }
+            openSockets.add(socket);
+            sessionExecutor.execute(() -> {
+                try (socket) {
+                    new ClientSession(scoreboard, socket.getInputStream(), socket.getOutputStream()).run();
+                } catch (SocketException e) {
+                    // Client went away or the server is shutting down
+                } catch (IOException | RuntimeException e) {
+                    System.out.println("Error: session failed: " + e.getMessage());
+                } finally {
+                    openSockets.remove(socket);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+            for (Socket socket : openSockets) {
+                socket.close();
+            }
+            acceptor.join();
+            sessionExecutor.shutdown();
+            sessionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stop the scoreboard server", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
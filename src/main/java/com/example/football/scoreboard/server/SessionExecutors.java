@@ -0,0 +1,42 @@
+package com.example.football.scoreboard.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Executors for client sessions. Virtual threads are looked up reflectively so the project still builds on Java 17,
+// on Java 21+ every session gets its own virtual thread, older runtimes fall back to a cached platform thread pool.
+public final class SessionExecutors {
+
+    private SessionExecutors() {
+    }
+
+    public static ExecutorService newSessionExecutor() {
+        ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+        return virtualThreads != null ? virtualThreads : Executors.newCachedThreadPool();
+    }
+
+    public static boolean virtualThreadsAvailable() {
+        return virtualThreadFactoryMethod() != null;
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factory = virtualThreadFactoryMethod();
+        if(factory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Method virtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.event.MatchEvent;
+import com.example.football.scoreboard.model.SummaryRow;
+import com.example.football.scoreboard.service.MatchOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Pushes summary changes to connected display clients as Server-Sent Events. Scoreboard events only mark the
+// summary as changed, a broadcaster thread waits for the coalescing window, builds one delta frame with the matches
+// whose score or rank changed since the last frame and hands the same frame to every client's bounded queue.
+// A client whose queue overflows is resynchronised with a full summary frame.
+public class SummaryDeltaStream implements Flow.Subscriber<MatchEvent>, AutoCloseable {
+
+    private final MatchOperations scoreboard;
+
+    private final long windowNanos;
+
+    private final int clientQueueCapacity;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changedCondition = lock.newCondition();
+
+    private boolean changed;
+
+    private volatile boolean closed;
+
+    // Cancelled on close, so a closed stream does not stay subscribed to the scoreboard
+    private volatile Flow.Subscription subscription;
+
+    // Last broadcast rows, the base of the next delta and the frame new clients start from
+    private volatile Summary lastSummary;
+
+    private volatile String lastFullFrame;
+
+    private final Thread broadcaster;
+
+    public SummaryDeltaStream(MatchOperations scoreboard, Duration window, int clientQueueCapacity) {
+        if(scoreboard == null || window == null || window.isNegative()) {
+            throw new IllegalArgumentException("Scoreboard cannot be null and the window must not be negative");
+        }
+        if(clientQueueCapacity <= 0) {
+            throw new IllegalArgumentException("Client queue capacity must be positive");
+        }
+        this.scoreboard = scoreboard;
+        this.windowNanos = window.toNanos();
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.lastSummary = summary();
+        this.lastFullFrame = fullFrame(lastSummary);
+        this.broadcaster = new Thread(this::broadcastLoop, "summary-delta-broadcaster");
+        this.broadcaster.setDaemon(true);
+        this.broadcaster.start();
+        // Events are only used as a change signal, their content is not needed
+        scoreboard.subscribe(this);
+    }
+
+    public Client connect() {
+        Client client = new Client(clientQueueCapacity);
+        clients.add(client);
+        client.frames.offer(lastFullFrame);
+        return client;
+    }
+
+    public void disconnect(Client client) {
+        clients.remove(client);
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(MatchEvent event) {
+        lock.lock();
+        try {
+            changed = true;
+            changedCondition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // Fall back to the last broadcast state, clients keep their connection
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Flow.Subscription current = subscription;
+        if(current != null) {
+            current.cancel();
+        }
+        broadcaster.interrupt();
+    }
+
+    private void broadcastLoop() {
+        try {
+            while (!closed) {
+                awaitChange();
+                // Coalesce the burst: everything changing within the window ends up in one frame
+                TimeUnit.NANOSECONDS.sleep(windowNanos);
+                lock.lock();
+                try {
+                    changed = false;
+                } finally {
+                    lock.unlock();
+                }
+                broadcast();
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private void awaitChange() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!changed) {
+                changedCondition.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void broadcast() {
+        Summary previous = lastSummary;
+        if(scoreboard.getSummaryVersion() == previous.version()) {
+            return;
+        }
+        Summary summary = summary();
+        String delta = deltaFrame(summary.version(), previous.rows(), summary.rows());
+        String full = fullFrame(summary);
+        lastSummary = summary;
+        lastFullFrame = full;
+        for (Client client : clients) {
+            if(!client.frames.offer(delta)) {
+                // Too slow to keep up: replace its backlog by the current state
+                client.frames.clear();
+                client.frames.offer(full);
+            }
+        }
+    }
+
+    // The rows are built at least at the version read before them, a newer row set only repeats in the next delta check
+    private Summary summary() {
+        long version = scoreboard.getSummaryVersion();
+        return new Summary(version, scoreboard.getMatchSummaryRows());
+    }
+
+    static String fullFrame(Summary summary) {
+        List<String> lines = new ArrayList<>(summary.rows().size());
+        for (SummaryRow row : summary.rows()) {
+            lines.add(row.line());
+        }
+        return frame(summary.version(), "summary", Json.summary(summary.version(), lines));
+    }
+
+    // Matches keyed by id whose score or rank changed, plus the ids that left the summary and the new size
+    static String deltaFrame(long version, List<SummaryRow> previous, List<SummaryRow> current) {
+        Map<String, SummaryRow> before = new HashMap<>(previous.size() * 2);
+        for (SummaryRow row : previous) {
+            before.put(row.matchId(), row);
+        }
+
+        StringBuilder json = new StringBuilder(64 + current.size() * 16);
+        json.append("{\"version\":").append(version)
+                .append(",\"size\":").append(current.size())
+                .append(",\"rows\":[");
+        boolean first = true;
+        for (SummaryRow row : current) {
+            SummaryRow old = before.remove(row.matchId());
+            if(old != null && old.rank() == row.rank()
+                    && old.homeTeamScore() == row.homeTeamScore() && old.awayTeamScore() == row.awayTeamScore()) {
+                continue;
+            }
+            if(!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"matchId\":");
+            Json.quote(json, row.matchId());
+            json.append(",\"rank\":").append(row.rank())
+                    .append(",\"previousRank\":").append(old != null ? String.valueOf(old.rank()) : "null")
+                    .append(",\"homeTeam\":");
+            Json.quote(json, row.homeTeam());
+            json.append(",\"awayTeam\":");
+            Json.quote(json, row.awayTeam());
+            json.append(",\"homeTeamScore\":").append(row.homeTeamScore())
+                    .append(",\"awayTeamScore\":").append(row.awayTeamScore())
+                    .append(",\"line\":");
+            Json.quote(json, row.line());
+            json.append('}');
+        }
+        json.append("],\"removed\":[");
+        first = true;
+        for (SummaryRow row : previous) {
+            if(before.containsKey(row.matchId())) {
+                if(!first) {
+                    json.append(',');
+                }
+                first = false;
+                Json.quote(json, row.matchId());
+            }
+        }
+        json.append("]}");
+        return frame(version, "delta", json.toString());
+    }
+
+    private static String frame(long version, String event, String data) {
+        return "id: " + version + "\nevent: " + event + "\ndata: " + data + "\n\n";
+    }
+
+    record Summary(long version, List<SummaryRow> rows) {
+    }
+
+    // One connected display, frames are taken by the thread serving its HTTP connection
+    public static final class Client {
+
+        private final BlockingQueue<String> frames;
+
+        private Client(int capacity) {
+            this.frames = new ArrayBlockingQueue<>(capacity);
+        }
+
+        public String nextFrame(Duration timeout) throws InterruptedException {
+            return frames.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
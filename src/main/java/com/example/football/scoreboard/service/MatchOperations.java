@@ -1,20 +1,62 @@
 package com.example.football.scoreboard.service;
 
+import com.example.football.scoreboard.event.MatchEvent;
 import com.example.football.scoreboard.model.Match;
-
+import com.example.football.scoreboard.model.MatchFixture;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.MatchSummary;
+import com.example.football.scoreboard.model.ScoreUpdate;
+import com.example.football.scoreboard.model.ScoreUpdateResult;
+import com.example.football.scoreboard.model.SummaryRow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 public interface MatchOperations {
 
     Match startMatch(String homeTeam, String awayTeam);
 
+    List<Match> startMatches(Collection<MatchFixture> fixtures);
+
     Match getMatch(String matchId);
 
     Match getMatch(String homeTeam, String awayTeam);
 
+    MatchSnapshot getMatchSnapshot(String matchId);
+
     void updateMatchScore(String matchId, int scoreA, int scoreB);
 
+    boolean updateMatchScore(String matchId, long expectedScoreVersion, int scoreA, int scoreB);
+
+    List<ScoreUpdateResult> updateMatchScores(Collection<ScoreUpdate> updates);
+
     void finishMatch(String matchId);
 
+    void finishMatches(Collection<String> matchIds);
+
     List<String> getMatchSummary();
+
+    // One page of the summary, lines keep their rank in the full summary
+    List<String> getMatchSummary(int offset, int limit);
+
+    List<String> getTopMatchSummary(int limit);
+
+    MatchSummary getMatchSummarySnapshot();
+
+    // The summary as typed rows, in the same order and with the same ranks as the lines
+    List<SummaryRow> getMatchSummaryRows();
+
+    List<SummaryRow> getMatchSummaryRows(int offset, int limit);
+
+    // Write the summary lines, each followed by '\n', into the caller's buffer and return the summary version written
+    long writeMatchSummary(Appendable out) throws IOException;
+
+    long writeMatchSummary(ByteBuffer out);
+
+    long getSummaryVersion();
+
+    void subscribe(Flow.Subscriber<? super MatchEvent> subscriber);
 }
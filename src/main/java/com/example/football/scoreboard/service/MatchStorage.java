@@ -2,15 +2,33 @@ package com.example.football.scoreboard.service;
 
 import com.example.football.scoreboard.model.Match;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MatchStorage {
     
     void saveMatch(Match match);
 
+    // Save several matches in one call, storages that can write a batch at once override this.
+    // The default saves one match after the other and is not atomic: if a save fails, the matches before it stay saved,
+    // callers that need all or nothing save the rolled back state of the batch again (see Scoreboard).
+    default void saveMatches(Collection<Match> matches) {
+        if(matches == null) {
+            throw new IllegalArgumentException("Matches cannot be null");
+        }
+        matches.forEach(this::saveMatch);
+    }
+
     Match findMatch(String matchId);
 
     Match findMatch(String homeTeam, String awayTeam);
 
+    boolean isTeamInLiveMatch(String team);
+
     List<Match> getAllMatches();
+
+    // Matches in progress, storages with a live index override this to avoid materialising their whole history
+    default List<Match> getLiveMatches() {
+        return getAllMatches().stream().filter(Match::isLive).toList();
+    }
 }
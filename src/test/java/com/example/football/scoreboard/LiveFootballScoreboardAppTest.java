@@ -1,6 +1,11 @@
 package com.example.football.scoreboard;
 
 import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.id.TimeOrderedMatchIdGenerator;
+import com.example.football.scoreboard.id.UuidMatchIdGenerator;
+import com.example.football.scoreboard.impl.CompactMatchStorage;
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.InmemoryMatchStorage;
 import com.example.football.scoreboard.impl.Scoreboard;
 import com.example.football.scoreboard.model.InputWrapper;
 import com.example.football.scoreboard.model.Match;
@@ -17,6 +22,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
@@ -462,4 +469,35 @@ public class LiveFootballScoreboardAppTest {
         verify(mockScoreboard).getMatchSummary();
 
     }
+
+    @Test
+    void testCreateMatchStorage() {
+        // Act && Assert
+        assertTrue(LiveFootballScoreboardApp.createMatchStorage("inmemory") instanceof InmemoryMatchStorage);
+        assertTrue(LiveFootballScoreboardApp.createMatchStorage("concurrent") instanceof ConcurrentMatchStorage);
+        assertTrue(LiveFootballScoreboardApp.createMatchStorage("compact") instanceof CompactMatchStorage);
+        assertThrows(IllegalArgumentException.class, () -> LiveFootballScoreboardApp.createMatchStorage("unknown"));
+    }
+
+    @Test
+    void testStorageType() {
+        // Act && Assert
+        assertEquals("inmemory", LiveFootballScoreboardApp.storageType("console", null));
+        assertEquals("compact", LiveFootballScoreboardApp.storageType("console", "compact"));
+        assertEquals("concurrent", LiveFootballScoreboardApp.storageType("server", null));
+        assertEquals("concurrent", LiveFootballScoreboardApp.storageType("http", null));
+        assertEquals("concurrent", LiveFootballScoreboardApp.storageType("http", "concurrent"));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> LiveFootballScoreboardApp.storageType("server", "inmemory"));
+        assertEquals("The server mode requires the concurrent storage, not inmemory", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> LiveFootballScoreboardApp.storageType("http", "mapped"));
+    }
+
+    @Test
+    void testCreateMatchIdGenerator() {
+        // Act && Assert
+        assertTrue(LiveFootballScoreboardApp.createMatchIdGenerator("timeOrdered") instanceof TimeOrderedMatchIdGenerator);
+        assertTrue(LiveFootballScoreboardApp.createMatchIdGenerator("uuid") instanceof UuidMatchIdGenerator);
+        assertThrows(IllegalArgumentException.class, () -> LiveFootballScoreboardApp.createMatchIdGenerator("unknown"));
+    }
 }
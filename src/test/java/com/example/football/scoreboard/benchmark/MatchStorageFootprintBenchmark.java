@@ -0,0 +1,60 @@
+package com.example.football.scoreboard.benchmark;
+
+import com.example.football.scoreboard.impl.CompactMatchStorage;
+import com.example.football.scoreboard.impl.InmemoryMatchStorage;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.service.MatchStorage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+// Retained heap of a finished-match archive per storage implementation, run with a large heap, e.g.
+// java -Xmx4g -cp target/classes:target/test-classes com.example.football.scoreboard.benchmark.MatchStorageFootprintBenchmark 1000000
+public class MatchStorageFootprintBenchmark {
+
+    private static final int TEAMS = 400;
+
+    public static void main(String[] args) {
+        int matchCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        report("InmemoryMatchStorage", InmemoryMatchStorage::new, matchCount);
+        report("CompactMatchStorage", CompactMatchStorage::new, matchCount);
+    }
+
+    private static void report(String name, Supplier<MatchStorage> storageFactory, int matchCount) {
+        long before = usedHeapAfterGc();
+        MatchStorage storage = storageFactory.get();
+        fill(storage, matchCount);
+        long after = usedHeapAfterGc();
+
+        long retained = after - before;
+        System.out.printf("%-22s %,d matches: %,d bytes retained, %.1f bytes/match%n",
+                name, matchCount, retained, (double) retained / matchCount);
+
+        // Keep the storage reachable until it has been measured
+        if (storage.getAllMatches().isEmpty()) {
+            throw new IllegalStateException("Storage should not be empty");
+        }
+    }
+
+    private static void fill(MatchStorage storage, int matchCount) {
+        LocalDateTime seasonStart = LocalDateTime.of(2024, 8, 1, 15, 0);
+        for (int i = 0; i < matchCount; i++) {
+            // Team names read from a feed arrive as separate String instances
+            String homeTeam = new String("Team " + (i % TEAMS));
+            String awayTeam = new String("Team " + ((i + 1) % TEAMS));
+            Match match = new Match(homeTeam, awayTeam, i % 5, i % 3, seasonStart.plusMinutes(i));
+            storage.saveMatch(match);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.football.scoreboard.event;
+
+import com.example.football.scoreboard.model.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchEventPublisherTest {
+
+    private MatchEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        // Deliver on the publishing thread so the tests are deterministic
+        publisher = new MatchEventPublisher(Runnable::run, 2, BackpressurePolicy.DROP_OLDEST);
+    }
+
+    private static MatchEvent event(int homeTeamScore) {
+        Match match = new Match("Team A", "Team B", homeTeamScore, 0, LocalDateTime.now());
+        return new ScoreChanged(match.snapshot(), homeTeamScore);
+    }
+
+    @Test
+    void testDeliversOnlyRequestedEvents() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        // Act
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+
+        // Assert
+        assertEquals(List.of(1L), subscriber.versions());
+
+        // Act
+        subscriber.subscription.request(5);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), subscriber.versions());
+    }
+
+    @Test
+    void testDropOldest_KeepsLatestEvents() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        // Act
+        for (int score = 1; score <= 4; score++) {
+            publisher.publish(event(score));
+        }
+        subscriber.subscription.request(10);
+
+        // Assert
+        assertEquals(List.of(3L, 4L), subscriber.versions());
+    }
+
+    @Test
+    void testDropNewest_KeepsBufferedEvents() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber, 2, BackpressurePolicy.DROP_NEWEST);
+
+        // Act
+        for (int score = 1; score <= 4; score++) {
+            publisher.publish(event(score));
+        }
+        subscriber.subscription.request(10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), subscriber.versions());
+    }
+
+    @Test
+    void testError_CancelsOverflowingSubscriber() {
+        // Arrange
+        RecordingSubscriber slow = new RecordingSubscriber(0);
+        RecordingSubscriber fast = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(slow, 2, BackpressurePolicy.ERROR);
+        publisher.subscribe(fast);
+
+        // Act
+        for (int score = 1; score <= 3; score++) {
+            publisher.publish(event(score));
+        }
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, slow.error);
+        assertTrue(slow.events.isEmpty());
+        assertEquals(List.of(1L, 2L, 3L), fast.versions());
+        assertEquals(1, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void testClose_CompletesAfterBufferedEvents() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+        publisher.publish(event(1));
+
+        // Act
+        publisher.close();
+
+        // Assert
+        assertFalse(subscriber.completed);
+
+        // Act
+        subscriber.subscription.request(1);
+        publisher.publish(event(2)); // ignored once closed
+
+        // Assert
+        assertEquals(List.of(1L), subscriber.versions());
+        assertTrue(subscriber.completed);
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void testCancel_StopsDelivery() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        publisher.publish(event(1));
+
+        // Act
+        subscriber.subscription.cancel();
+        publisher.publish(event(2));
+
+        // Assert
+        assertEquals(List.of(1L), subscriber.versions());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void testNonPositiveRequest_SignalsError() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        // Act
+        subscriber.subscription.request(0);
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void testFailingSubscriber_DoesNotAffectOthers() {
+        // Arrange
+        RecordingSubscriber healthy = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(new RecordingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(MatchEvent item) {
+                throw new IllegalStateException("Display offline");
+            }
+        });
+        publisher.subscribe(healthy);
+
+        // Act
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+
+        // Assert
+        assertEquals(List.of(1L, 2L), healthy.versions());
+        assertEquals(1, publisher.getSubscriberCount());
+        assertNull(healthy.error);
+    }
+
+    @Test
+    void testAsyncDelivery_PreservesOrder() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MatchEventPublisher asyncPublisher = new MatchEventPublisher(executor, 1000, BackpressurePolicy.ERROR);
+        CountDownLatch done = new CountDownLatch(1);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                done.countDown();
+            }
+        };
+        asyncPublisher.subscribe(subscriber);
+
+        // Act
+        for (int score = 1; score <= 500; score++) {
+            asyncPublisher.publish(event(score));
+        }
+        asyncPublisher.close();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        List<Long> expected = new ArrayList<>();
+        for (long version = 1; version <= 500; version++) {
+            expected.add(version);
+        }
+        assertEquals(expected, subscriber.versions());
+        executor.shutdown();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchEventPublisher(Runnable::run, 0, BackpressurePolicy.ERROR));
+        assertThrows(IllegalArgumentException.class, () -> new MatchEventPublisher(null, 1, BackpressurePolicy.ERROR));
+        assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+        assertThrows(IllegalArgumentException.class, () -> publisher.publish(null));
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<MatchEvent> {
+
+        private final long initialDemand;
+
+        final List<MatchEvent> events = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        volatile Throwable error;
+
+        volatile boolean completed;
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if(initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(MatchEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        List<Long> versions() {
+            return events.stream().map(MatchEvent::summaryVersion).toList();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.football.scoreboard.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeOrderedMatchIdGeneratorTest {
+
+    @Test
+    void testNextId_CompactAndSortedByCreation() {
+        // Arrange
+        MatchIdGenerator generator = new TimeOrderedMatchIdGenerator();
+
+        // Act
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        // Assert
+        assertEquals(TimeOrderedMatchIdGenerator.ID_LENGTH, first.length());
+        assertTrue(first.compareTo(second) < 0, "Later IDs should sort after earlier ones");
+    }
+
+    @Test
+    void testNextLongId_SequenceWithinSameMillisecond() {
+        // Arrange
+        Clock fixedClock = Clock.fixed(Instant.parse("2024-06-01T15:00:00Z"), ZoneOffset.UTC);
+        TimeOrderedMatchIdGenerator generator = new TimeOrderedMatchIdGenerator(fixedClock);
+
+        // Act
+        long first = generator.nextLongId();
+        long second = generator.nextLongId();
+
+        // Assert
+        assertEquals(first + 1, second);
+    }
+
+    @Test
+    void testEncodeDecode() {
+        // Arrange
+        TimeOrderedMatchIdGenerator generator = new TimeOrderedMatchIdGenerator();
+        long id = generator.nextLongId();
+
+        // Act
+        String encoded = TimeOrderedMatchIdGenerator.encode(id);
+
+        // Assert
+        assertEquals(id, TimeOrderedMatchIdGenerator.decode(encoded));
+        assertEquals(Long.MAX_VALUE, TimeOrderedMatchIdGenerator.decode(TimeOrderedMatchIdGenerator.encode(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testDecode_ForeignFormat() {
+        // Act && Assert
+        assertEquals(-1, TimeOrderedMatchIdGenerator.decode(null));
+        assertEquals(-1, TimeOrderedMatchIdGenerator.decode("invalidId"));
+        assertEquals(-1, TimeOrderedMatchIdGenerator.decode(new UuidMatchIdGenerator().nextId()));
+        assertEquals(-1, TimeOrderedMatchIdGenerator.decode("0000000000O00"));
+        assertEquals(-1, TimeOrderedMatchIdGenerator.decode("Z000000000000"));
+    }
+
+    @Test
+    void testNextId_UniqueAcrossThreads() throws Exception {
+        // Arrange
+        MatchIdGenerator generator = new TimeOrderedMatchIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(80_000, ids.size());
+    }
+}
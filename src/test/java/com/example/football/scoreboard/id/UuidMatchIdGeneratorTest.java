@@ -0,0 +1,25 @@
+package com.example.football.scoreboard.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class UuidMatchIdGeneratorTest {
+
+    @Test
+    void testNextId() {
+        // Arrange
+        MatchIdGenerator generator = new UuidMatchIdGenerator();
+
+        // Act
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        // Assert
+        assertEquals(first, UUID.fromString(first).toString());
+        assertNotEquals(first, second);
+    }
+}
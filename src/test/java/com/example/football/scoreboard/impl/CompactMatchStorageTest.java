@@ -0,0 +1,140 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.service.MatchStorage;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactMatchStorageTest {
+
+    private CompactMatchStorage matchStorage;
+
+    @BeforeEach
+    void setUp() {
+        matchStorage = new CompactMatchStorage(2);
+    }
+
+    @Test
+    void testSaveAndFindMatch_RoundTripsAllFields() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2024, 6, 1, 15, 0, 0, 123_456_789);
+        Match match = new Match("Team A", "Team B", 0, 0, startTime);
+        match.updateScore(2, 1);
+
+        // Act
+        matchStorage.saveMatch(match);
+        Match foundMatch = matchStorage.findMatch(match.getMatchId());
+
+        // Assert
+        assertEquals(match, foundMatch);
+        assertEquals(match.snapshot(), foundMatch.snapshot());
+    }
+
+    @Test
+    void testFindMatch_LiveMatchKeepsHandle() {
+        // Arrange
+        Match match = liveMatch("Team A", "Team B");
+
+        // Act
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertSame(match, matchStorage.findMatch(match.getMatchId()));
+        assertSame(match, matchStorage.findMatch("Team A", "Team B"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Team A"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Team B"));
+    }
+
+    @Test
+    void testFinishMatch_DroppedFromLiveIndexes() {
+        // Arrange
+        Match match = liveMatch("Team A", "Team B");
+        matchStorage.saveMatch(match);
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertNull(matchStorage.findMatch("Team A", "Team B"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team A"));
+        assertFalse(matchStorage.findMatch(match.getMatchId()).isLive());
+        assertEquals(match, matchStorage.findMatch(match.getMatchId()));
+        assertTrue(matchStorage.getLiveMatches().isEmpty());
+    }
+
+    @Test
+    void testFindMatch_NotFound() {
+        // Arrange
+        String unknownId = new Match("Team A", "Team B", 0, 0, LocalDateTime.now()).getMatchId();
+
+        // Act && Assert
+        assertThrows(MatchNotFoundException.class, () -> matchStorage.findMatch(unknownId));
+        MatchNotFoundException exception = assertThrows(MatchNotFoundException.class, () -> matchStorage.findMatch("invalidId"));
+        assertEquals("No match found with ID: invalidId", exception.getMessage());
+        assertNull(matchStorage.findMatch("Unknown", "Team B"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Unknown"));
+    }
+
+    @Test
+    void testSaveMatch_InvalidInput() {
+        // Act && Assert
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> matchStorage.saveMatch(null));
+        assertEquals("Match or Match Id cannot be null", nullException.getMessage());
+
+        Match uuidMatch = new Match("2b0d9a0e-1a57-4c4c-8b64-6d3e0ef7c0b1", "Team A", "Team B", 0, 0, LocalDateTime.now());
+        assertThrows(IllegalArgumentException.class, () -> matchStorage.saveMatch(uuidMatch));
+    }
+
+    @Test
+    void testGetAllMatches_GrowsColumns() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            matchStorage.saveMatch(new Match("Home " + i, "Away " + i, i, 0, LocalDateTime.now()));
+        }
+
+        // Act
+        List<Match> matches = matchStorage.getAllMatches();
+
+        // Assert
+        assertEquals(100, matches.size());
+        assertEquals(100, matchStorage.size());
+        assertEquals(99, matches.get(99).getHomeTeamScore());
+    }
+
+    @Test
+    void testThroughScoreboard() {
+        // Arrange
+        MatchStorage storage = new CompactMatchStorage();
+        Scoreboard scoreboard = new Scoreboard(storage);
+        Match match = scoreboard.startMatch("Team A", "Team B");
+
+        // Act
+        scoreboard.updateMatchScore(match.getMatchId(), 1, 2);
+        scoreboard.finishMatch(match.getMatchId());
+
+        // Assert
+        Match finished = scoreboard.getMatch(match.getMatchId());
+        assertEquals(1, finished.getHomeTeamScore());
+        assertEquals(2, finished.getAwayTeamScore());
+        assertFalse(finished.isLive());
+        assertTrue(scoreboard.getMatchSummary().isEmpty());
+    }
+
+    private Match liveMatch(String homeTeam, String awayTeam) {
+        Match match = new Match(homeTeam, awayTeam, 0, 0, LocalDateTime.now());
+        match.setLive(true);
+        return match;
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.event.BackpressurePolicy;
+import com.example.football.scoreboard.event.MatchEvent;
+import com.example.football.scoreboard.event.MatchEventPublisher;
+import com.example.football.scoreboard.event.MatchFinished;
+import com.example.football.scoreboard.id.MatchIdGenerator;
+import com.example.football.scoreboard.service.MatchStorage;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcurrentMatchStorageTest {
+
+    private static final int WRITER_THREADS = 200;
+
+    private static final int MATCHES_PER_WRITER = 50;
+
+    private MatchStorage matchStorage;
+
+    @BeforeEach
+    void setUp() {
+        matchStorage = new ConcurrentMatchStorage();
+    }
+
+    @Test
+    void testSaveAndFindMatch() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertEquals(match, matchStorage.findMatch(match.getMatchId()));
+        assertEquals(match, matchStorage.findMatch("Team A", "Team B"));
+        assertNull(matchStorage.findMatch("Team B", "Team A"));
+    }
+
+    @Test
+    void testFindMatch_NotFound() {
+        // Act
+        MatchNotFoundException exception = assertThrows(MatchNotFoundException.class, () -> matchStorage.findMatch("unknown"));
+
+        // Assert
+        assertEquals("No match found with ID: unknown", exception.getMessage());
+    }
+
+    @Test
+    void testSaveMatch_Null() {
+        // Act
+        IllegalArgumentException nullException = assertThrows(IllegalArgumentException.class, () -> matchStorage.saveMatch(null));
+
+        // Assert
+        assertEquals("Match or Match Id cannot be null", nullException.getMessage());
+    }
+
+    @Test
+    void testInvalidConcurrencyLevel() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentMatchStorage(0));
+    }
+
+    @Test
+    void testConcurrentWritersAndReaders_NoLostUpdates() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS + 4);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> readerErrors = new ConcurrentLinkedQueue<>();
+        List<Future<?>> writers = new ArrayList<>();
+
+        for (int reader = 0; reader < 4; reader++) {
+            executor.submit(() -> {
+                try {
+                    startSignal.await();
+                    while (writing.get()) {
+                        matchStorage.getAllMatches().forEach(Match::getTotalScore);
+                    }
+                } catch (Throwable e) {
+                    readerErrors.add(e);
+                }
+                return null;
+            });
+        }
+
+        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+            int writerId = writer;
+            writers.add(executor.submit(() -> {
+                startSignal.await();
+                for (int i = 0; i < MATCHES_PER_WRITER; i++) {
+                    Match match = new Match("Home " + writerId + "-" + i, "Away " + writerId + "-" + i, 0, 0, LocalDateTime.now());
+                    matchStorage.saveMatch(match);
+                    match.setHomeTeamScore(i);
+                    matchStorage.saveMatch(match);
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startSignal.countDown();
+        for (Future<?> future : writers) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(readerErrors.isEmpty(), "Readers should never fail during concurrent writes");
+        assertEquals(WRITER_THREADS * MATCHES_PER_WRITER, matchStorage.getAllMatches().size());
+    }
+
+    @Test
+    void testConcurrentStartMatches_ThroughScoreboard() throws Exception {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Match>> starts = new ArrayList<>();
+
+        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+            int writerId = writer;
+            starts.add(executor.submit(() -> {
+                startSignal.await();
+                Match match = scoreboard.startMatch("Home " + writerId, "Away " + writerId);
+                scoreboard.updateMatchScore(match.getMatchId(), writerId, 1);
+                return match;
+            }));
+        }
+
+        // Act
+        startSignal.countDown();
+        for (Future<Match> future : starts) {
+            assertNotNull(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(WRITER_THREADS, scoreboard.getMatchSummary().size());
+        for (int writer = 0; writer < WRITER_THREADS; writer++) {
+            Match match = scoreboard.getMatch("Home " + writer, "Away " + writer);
+            assertEquals(writer, match.getHomeTeamScore());
+            assertEquals(1, match.getAwayTeamScore());
+        }
+    }
+
+    @Test
+    void testContendedScoreUpdates_ThroughScoreboard_NoLostUpdates() throws Exception {
+        // Arrange: every thread adds goals to the same few matches with compare-and-set retry loops
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        int threads = 32;
+        int goalsPerThread = 500;
+        List<Match> matches = List.of(
+                scoreboard.startMatch("Mexico", "Canada"),
+                scoreboard.startMatch("Spain", "Brazil"),
+                scoreboard.startMatch("Germany", "France"));
+        List<Long> initialVersions = matches.stream().map(match -> match.getScore().version()).toList();
+        AtomicIntegerArray applied = new AtomicIntegerArray(matches.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        for (int writer = 0; writer < threads; writer++) {
+            boolean homeGoals = writer % 2 == 0;
+            writers.add(executor.submit(() -> {
+                startSignal.await();
+                for (int goal = 0; goal < goalsPerThread; goal++) {
+                    int index = goal % matches.size();
+                    Match match = matches.get(index);
+                    while (true) {
+                        MatchSnapshot current = scoreboard.getMatchSnapshot(match.getMatchId());
+                        int homeTeamScore = current.homeTeamScore() + (homeGoals ? 1 : 0);
+                        int awayTeamScore = current.awayTeamScore() + (homeGoals ? 0 : 1);
+                        if (scoreboard.updateMatchScore(match.getMatchId(), current.score().version(), homeTeamScore, awayTeamScore)) {
+                            applied.incrementAndGet(index);
+                            break;
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startSignal.countDown();
+        for (Future<?> future : writers) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert: each applied update added exactly one goal and one score version
+        int totalApplied = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            MatchSnapshot snapshot = scoreboard.getMatchSnapshot(matches.get(i).getMatchId());
+            assertEquals(applied.get(i), snapshot.totalScore());
+            assertEquals(initialVersions.get(i) + applied.get(i), snapshot.score().version());
+            totalApplied += applied.get(i);
+        }
+        assertEquals(threads * goalsPerThread, totalApplied);
+        assertEquals(threads / 2 * goalsPerThread, matches.stream().mapToInt(Match::getHomeTeamScore).sum());
+    }
+
+    @Test
+    void testContendedMutations_EventsFollowStateAndVersionOrder() throws Exception {
+        // Arrange: saves of random length widen the gap between applying a change and publishing it, events are
+        // delivered on the publishing thread in the order they are handed to subscribers
+        MatchStorage slowStorage = new ConcurrentMatchStorage() {
+            @Override
+            public void saveMatch(Match match) {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(20_000));
+                super.saveMatch(match);
+            }
+        };
+        Scoreboard scoreboard = new Scoreboard(slowStorage, MatchIdGenerator.defaultGenerator(),
+                new MatchEventPublisher(Runnable::run, 1 << 16, BackpressurePolicy.ERROR));
+        List<MatchEvent> events = new CopyOnWriteArrayList<>();
+        scoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MatchEvent item) {
+                events.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        for (int round = 0; round < 50; round++) {
+            events.clear();
+            Match match = scoreboard.startMatch("Home " + round, "Away " + round);
+            CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int goals = writer + 1;
+                writers.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int goal = 0; goal < 20; goal++) {
+                        scoreboard.updateMatchScore(match.getMatchId(), goals, goal);
+                    }
+                    return null;
+                }));
+            }
+            writers.add(executor.submit(() -> {
+                startSignal.await();
+                scoreboard.finishMatch(match.getMatchId());
+                return null;
+            }));
+
+            // Act
+            startSignal.countDown();
+            for (Future<?> future : writers) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // Assert
+            for (int i = 1; i < events.size(); i++) {
+                assertTrue(events.get(i - 1).summaryVersion() < events.get(i).summaryVersion(), "Events out of version order");
+                assertTrue(events.get(i - 1).match().score().version() <= events.get(i).match().score().version(),
+                        "Events out of state order");
+            }
+            assertEquals(match.snapshot(), events.get(events.size() - 1).match());
+            assertEquals(1, events.stream().filter(event -> event instanceof MatchFinished).count());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testConcurrentStartOfSameTeam_OnlyOneSucceeds() throws Exception {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Boolean>> starts = new ArrayList<>();
+
+        for (int writer = 0; writer < 32; writer++) {
+            int writerId = writer;
+            starts.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    scoreboard.startMatch("Team A", "Opponent " + writerId);
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }));
+        }
+
+        // Act
+        startSignal.countDown();
+        int started = 0;
+        for (Future<Boolean> future : starts) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                started++;
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, started, "Team A can only be part of a single live match");
+    }
+
+    @Test
+    void testFindMatch_UsingTeamNames_FinishedMatchDroppedFromIndex() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 1, 0, LocalDateTime.now());
+        match.setLive(true);
+        matchStorage.saveMatch(match);
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertNull(matchStorage.findMatch("Team A", "Team B"));
+        assertEquals(match, matchStorage.findMatch(match.getMatchId()));
+    }
+
+    @Test
+    void testFindMatch_UsingTeamNames_RematchAfterFinish() {
+        // Arrange
+        Match finished = new Match("Team A", "Team B", 1, 0, LocalDateTime.now().minusHours(2));
+        finished.setLive(true);
+        matchStorage.saveMatch(finished);
+        finished.setLive(false);
+        matchStorage.saveMatch(finished);
+
+        Match rematch = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        rematch.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(rematch);
+        matchStorage.saveMatch(finished); // re-saving the finished match must not evict the live one
+
+        // Assert
+        assertEquals(rematch, matchStorage.findMatch("Team A", "Team B"));
+        assertEquals(List.of(rematch), matchStorage.getLiveMatches());
+    }
+
+    @Test
+    void testIsTeamInLiveMatch() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertTrue(matchStorage.isTeamInLiveMatch("Team A"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Team B"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team C"));
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertFalse(matchStorage.isTeamInLiveMatch("Team A"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team B"));
+    }
+}
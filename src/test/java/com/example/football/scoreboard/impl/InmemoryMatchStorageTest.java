@@ -11,8 +11,10 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class InmemoryMatchStorageTest {
@@ -161,4 +163,63 @@ public class InmemoryMatchStorageTest {
         assertEquals(3, updatedMatch.getAwayTeamScore());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testFindMatch_UsingTeamNames_FinishedMatchDroppedFromIndex() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 1, 0, LocalDateTime.now());
+        match.setLive(true);
+        matchStorage.saveMatch(match);
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertNull(matchStorage.findMatch("Team A", "Team B"));
+        assertEquals(match, matchStorage.findMatch(match.getMatchId()));
+    }
+
+    @Test
+    void testFindMatch_UsingTeamNames_RematchAfterFinish() {
+        // Arrange
+        Match finished = new Match("Team A", "Team B", 1, 0, LocalDateTime.now().minusHours(2));
+        finished.setLive(true);
+        matchStorage.saveMatch(finished);
+        finished.setLive(false);
+        matchStorage.saveMatch(finished);
+
+        Match rematch = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        rematch.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(rematch);
+        matchStorage.saveMatch(finished); // re-saving the finished match must not evict the live one
+
+        // Assert
+        assertEquals(rematch, matchStorage.findMatch("Team A", "Team B"));
+        assertEquals(List.of(rematch), matchStorage.getLiveMatches());
+    }
+
+    @Test
+    void testIsTeamInLiveMatch() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertTrue(matchStorage.isTeamInLiveMatch("Team A"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Team B"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team C"));
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertFalse(matchStorage.isTeamInLiveMatch("Team A"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team B"));
+    }
+}
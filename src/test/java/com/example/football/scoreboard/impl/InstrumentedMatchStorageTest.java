@@ -0,0 +1,70 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.metrics.MetricsRegistry;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.service.MatchStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentedMatchStorageTest {
+
+    private MetricsRegistry metrics;
+
+    private MatchStorage matchStorage;
+
+    @BeforeEach
+    void setUp() {
+        metrics = MetricsRegistry.create();
+        matchStorage = new InstrumentedMatchStorage(new ConcurrentMatchStorage(), metrics);
+    }
+
+    @Test
+    void testOperations_DelegatedAndTimed() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(match);
+        matchStorage.saveMatches(List.of(match));
+        Match found = matchStorage.findMatch(match.getMatchId());
+        Match foundByTeams = matchStorage.findMatch("Team A", "Team B");
+        boolean live = matchStorage.isTeamInLiveMatch("Team A");
+        List<Match> all = matchStorage.getAllMatches();
+        List<Match> liveMatches = matchStorage.getLiveMatches();
+
+        // Assert
+        assertEquals(match, found);
+        assertEquals(match, foundByTeams);
+        assertTrue(live);
+        assertEquals(List.of(match), all);
+        assertEquals(List.of(match), liveMatches);
+        metrics.getTimers().forEach((name, timer) -> assertEquals(1, timer.getCount(), name));
+        assertEquals(7, metrics.getTimers().size());
+    }
+
+    @Test
+    void testFindMatch_FailureTimed() {
+        // Act
+        assertThrows(MatchNotFoundException.class, () -> matchStorage.findMatch("missing"));
+
+        // Assert
+        assertEquals(1, metrics.getTimers().get("storage.findMatchById").getCount());
+    }
+
+    @Test
+    void testConstructor_Null() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new InstrumentedMatchStorage(null, metrics));
+        assertEquals("Match storage and metrics registry cannot be null", exception.getMessage());
+    }
+}
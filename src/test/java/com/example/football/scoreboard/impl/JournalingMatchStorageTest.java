@@ -0,0 +1,124 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchUpdateException;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.ScoreUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalingMatchStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path journalFile;
+
+    private JournalingMatchStorage matchStorage;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = tempDir.resolve("scoreboard.journal");
+        matchStorage = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchStorage.close();
+    }
+
+    private JournalingMatchStorage open() {
+        return new JournalingMatchStorage(new InmemoryMatchStorage(), new MatchJournal(journalFile));
+    }
+
+    @Test
+    void testScoreboardMutations_NotVisibleWhenJournalFails() {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        Match match = scoreboard.startMatch("Team A", "Team B");
+        matchStorage.close();
+
+        // Act && Assert
+        assertThrows(IllegalStateException.class, () -> scoreboard.updateMatchScore(match.getMatchId(), 3, 0));
+        assertThrows(MatchUpdateException.class, () -> scoreboard.finishMatch(match.getMatchId()));
+
+        assertEquals(0, scoreboard.getMatch(match.getMatchId()).getHomeTeamScore());
+        assertTrue(scoreboard.getMatch(match.getMatchId()).isLive());
+        assertTrue(matchStorage.isTeamInLiveMatch("Team A"));
+        assertEquals(List.of("1. Team A 0 - Team B 0"), scoreboard.getMatchSummary());
+    }
+
+    @Test
+    void testScoreboardMutations_ReplayedAfterRestart() {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        Match spain = scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateMatchScore(spain.getMatchId(), 10, 2);
+        Match mexico = scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateMatchScore(mexico.getMatchId(), 0, 5);
+        Match germany = scoreboard.startMatch("Germany", "France");
+        scoreboard.finishMatch(germany.getMatchId());
+
+        // Act
+        matchStorage.close();
+        matchStorage = open();
+        Scoreboard restarted = new Scoreboard(matchStorage);
+
+        // Assert
+        assertEquals(List.of("1. Spain 10 - Brazil 2", "2. Mexico 0 - Canada 5"), restarted.getMatchSummary());
+        assertEquals(spain.snapshot(), matchStorage.findMatch(spain.getMatchId()).snapshot());
+        assertFalse(matchStorage.findMatch(germany.getMatchId()).isLive());
+        assertNull(matchStorage.findMatch("Germany", "France"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Spain"));
+        assertEquals(3, matchStorage.getAllMatches().size());
+    }
+
+    @Test
+    void testBatchScoreUpdate_ReplayedAfterRestart() {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        Match spain = scoreboard.startMatch("Spain", "Brazil");
+        Match mexico = scoreboard.startMatch("Mexico", "Canada");
+
+        // Act
+        scoreboard.updateMatchScores(List.of(new ScoreUpdate(spain.getMatchId(), 1, 0), new ScoreUpdate(mexico.getMatchId(), 0, 3)));
+        matchStorage.close();
+        matchStorage = open();
+
+        // Assert
+        assertEquals(List.of("1. Mexico 0 - Canada 3", "2. Spain 1 - Brazil 0"), new Scoreboard(matchStorage).getMatchSummary());
+    }
+
+    @Test
+    void testSaveMatch_Null() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> matchStorage.saveMatch(null));
+        assertEquals("Match or Match Id cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void testSaveMatch_NotAppliedWhenJournalClosed() {
+        // Arrange
+        matchStorage.close();
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> matchStorage.saveMatch(match));
+        assertTrue(matchStorage.getAllMatches().isEmpty());
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new JournalingMatchStorage(null, new MatchJournal(tempDir.resolve("other"))));
+    }
+}
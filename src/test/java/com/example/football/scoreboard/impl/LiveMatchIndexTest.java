@@ -0,0 +1,85 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LiveMatchIndexTest {
+
+    @Test
+    void testIndex_LiveAndFinished() {
+        // Arrange
+        LiveMatchIndex liveIndex = LiveMatchIndex.create();
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        liveIndex.index(match);
+
+        // Assert
+        assertEquals(match, liveIndex.findMatch("Team A", "Team B"));
+        assertNull(liveIndex.findMatch("Team B", "Team A"));
+        assertTrue(liveIndex.isTeamInLiveMatch("Team B"));
+
+        // Act
+        match.setLive(false);
+        liveIndex.index(match);
+
+        // Assert
+        assertNull(liveIndex.findMatch("Team A", "Team B"));
+        assertFalse(liveIndex.isTeamInLiveMatch("Team A"));
+        assertFalse(liveIndex.isTeamInLiveMatch("Unknown Team"));
+    }
+
+    @Test
+    void testIndex_FinishedMatchKeepsRematch() {
+        // Arrange
+        LiveMatchIndex liveIndex = LiveMatchIndex.concurrent(4);
+        Match finished = new Match("Team A", "Team B", 1, 0, LocalDateTime.now().minusHours(2));
+        finished.setLive(true);
+        liveIndex.index(finished);
+        finished.setLive(false);
+        liveIndex.index(finished);
+        Match rematch = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        rematch.setLive(true);
+        liveIndex.index(rematch);
+
+        // Act - re-saving the finished match must not evict the live one
+        liveIndex.index(finished);
+
+        // Assert
+        assertEquals(rematch, liveIndex.findMatch("Team A", "Team B"));
+        assertTrue(liveIndex.isTeamInLiveMatch("Team A"));
+    }
+
+    @Test
+    void testIndex_StaleLiveSnapshotKeepsNewMatch() {
+        // Arrange
+        LiveMatchIndex liveIndex = LiveMatchIndex.concurrent(4);
+        Match finished = new Match("Team T", "Team U", 0, 0, LocalDateTime.now().minusHours(2));
+        finished.setLive(true);
+        liveIndex.index(finished);
+        MatchSnapshot staleSnapshot = finished.snapshot().withScore(1, 0);
+        finished.setLive(false);
+        liveIndex.index(finished);
+        Match started = new Match("Team T", "Team V", 0, 0, LocalDateTime.now());
+        started.setLive(true);
+        liveIndex.index(started);
+
+        // Act - a score update that read the finished match while it was still live lands late
+        liveIndex.index(finished, staleSnapshot);
+
+        // Assert
+        assertTrue(liveIndex.isTeamInLiveMatch("Team T"));
+        assertEquals(started, liveIndex.findMatch("Team T", "Team V"));
+        assertNull(liveIndex.findMatch("Team T", "Team U"));
+        assertFalse(liveIndex.isTeamInLiveMatch("Team U"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LiveRankingTest {
+
+    private LiveRanking liveRanking;
+
+    @BeforeEach
+    void setUp() {
+        liveRanking = new LiveRanking();
+    }
+
+    @Test
+    void testMatchSnapshotes_Empty() {
+        // Act && Assert
+        assertTrue(liveRanking.rankedMatches().isEmpty());
+    }
+
+    @Test
+    void testUpdate_ReordersOnScoreChange() {
+        // Arrange
+        Match olderMatch = liveMatch("Uruguay", "Italy", LocalDateTime.now().minusMinutes(10));
+        Match recentMatch = liveMatch("Spain", "Brazil", LocalDateTime.now());
+        liveRanking.update(olderMatch);
+        liveRanking.update(recentMatch);
+
+        // Assert - same total score, most recent start first
+        assertEquals(List.of("Spain", "Uruguay"), homeTeams(liveRanking.rankedMatches()));
+
+        // Act
+        olderMatch.setHomeTeamScore(1);
+        liveRanking.update(olderMatch);
+
+        // Assert
+        assertEquals(List.of("Uruguay", "Spain"), homeTeams(liveRanking.rankedMatches()));
+        assertEquals(2, liveRanking.size());
+    }
+
+    @Test
+    void testUpdate_FinishedMatchLeavesRanking() {
+        // Arrange
+        Match match = liveMatch("Mexico", "Canada", LocalDateTime.now());
+        liveRanking.update(match);
+
+        // Act
+        match.setLive(false);
+        liveRanking.update(match);
+
+        // Assert
+        assertTrue(liveRanking.rankedMatches().isEmpty());
+        assertEquals(0, liveRanking.size());
+    }
+
+    @Test
+    void testUpdate_NotLiveMatchIsNotRanked() {
+        // Act
+        liveRanking.update(new Match("Mexico", "Canada", 0, 0, LocalDateTime.now()));
+
+        // Assert
+        assertTrue(liveRanking.rankedMatches().isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        // Arrange
+        Match match = liveMatch("Mexico", "Canada", LocalDateTime.now());
+        liveRanking.update(match);
+
+        // Act
+        liveRanking.remove(match.getMatchId());
+        liveRanking.remove("unknown");
+
+        // Assert
+        assertTrue(liveRanking.rankedMatches().isEmpty());
+    }
+
+    @Test
+    void testRankedEntries_LineCachedUntilScoreChanges() {
+        // Arrange
+        Match match = liveMatch("Mexico", "Canada", LocalDateTime.now());
+        Match otherMatch = liveMatch("Spain", "Brazil", LocalDateTime.now().minusMinutes(5));
+        liveRanking.update(match);
+        liveRanking.update(otherMatch);
+        String line = liveRanking.rankedEntries().get(0).line();
+
+        // Act - re-ranking unchanged matches and changing another match keeps the rendered line
+        liveRanking.update(match);
+        otherMatch.setHomeTeamScore(1);
+        liveRanking.update(otherMatch);
+
+        // Assert
+        assertEquals("Mexico 0 - Canada 0", line);
+        assertSame(line, liveRanking.rankedEntries().get(1).line());
+
+        // Act
+        match.setAwayTeamScore(5);
+        liveRanking.update(match);
+
+        // Assert
+        assertEquals("Mexico 0 - Canada 5", liveRanking.rankedEntries().get(0).line());
+    }
+
+    @Test
+    void testRankedEntries_Page() {
+        // Arrange
+        liveRanking.update(liveMatch("Uruguay", "Italy", LocalDateTime.now().minusMinutes(20)));
+        liveRanking.update(liveMatch("Spain", "Brazil", LocalDateTime.now().minusMinutes(10)));
+        liveRanking.update(liveMatch("Mexico", "Canada", LocalDateTime.now()));
+
+        // Act
+        List<LiveRanking.Entry> page = liveRanking.rankedEntries(1, 1);
+        List<LiveRanking.Entry> pastEnd = liveRanking.rankedEntries(2, 5);
+
+        // Assert
+        assertEquals(List.of("Spain"), homeTeams(page.stream().map(LiveRanking.Entry::snapshot).toList()));
+        assertEquals(List.of("Uruguay"), homeTeams(pastEnd.stream().map(LiveRanking.Entry::snapshot).toList()));
+        assertTrue(liveRanking.rankedEntries(3, 5).isEmpty());
+    }
+
+    private Match liveMatch(String homeTeam, String awayTeam, LocalDateTime startTime) {
+        Match match = new Match(homeTeam, awayTeam, 0, 0, startTime);
+        match.setLive(true);
+        return match;
+    }
+
+    private List<String> homeTeams(List<MatchSnapshot> rankedMatches) {
+        return rankedMatches.stream().map(MatchSnapshot::homeTeamName).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LiveRowIndexTest {
+
+    @Test
+    void testIndex_LiveAndFinished() {
+        // Arrange
+        LiveRowIndex liveIndex = new LiveRowIndex();
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        liveIndex.index(3, match.snapshot(), match);
+
+        // Assert
+        assertSame(match, liveIndex.handle(3));
+        assertEquals(match, liveIndex.findMatch("Team A", "Team B"));
+        assertTrue(liveIndex.isTeamInLiveMatch("Team A"));
+
+        // Act
+        match.setLive(false);
+        liveIndex.index(3, match.snapshot(), match);
+
+        // Assert
+        assertNull(liveIndex.handle(3));
+        assertNull(liveIndex.findMatch("Team A", "Team B"));
+        assertFalse(liveIndex.isTeamInLiveMatch("Team B"));
+    }
+
+    @Test
+    void testIndex_FinishedRowKeepsRematch() {
+        // Arrange
+        LiveRowIndex liveIndex = new LiveRowIndex();
+        Match finished = new Match("Team A", "Team B", 1, 0, LocalDateTime.now().minusHours(2));
+        finished.setLive(true);
+        liveIndex.index(0, finished.snapshot(), finished);
+        Match rematch = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        rematch.setLive(true);
+        liveIndex.index(1, rematch.snapshot(), rematch);
+
+        // Act
+        finished.setLive(false);
+        liveIndex.index(0, finished.snapshot(), finished);
+
+        // Assert
+        assertEquals(rematch, liveIndex.findMatch("Team A", "Team B"));
+        assertTrue(liveIndex.isTeamInLiveMatch("Team B"));
+    }
+}
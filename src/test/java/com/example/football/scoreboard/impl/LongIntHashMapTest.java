@@ -0,0 +1,72 @@
+package com.example.football.scoreboard.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LongIntHashMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+
+        // Act
+        map.put(0, 10);
+        map.put(42, 20);
+        map.put(42, 30);
+
+        // Assert
+        assertEquals(10, map.get(0));
+        assertEquals(30, map.get(42));
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(7));
+        assertEquals(2, map.size());
+
+        // Act && Assert
+        assertEquals(30, map.remove(42));
+        assertEquals(LongIntHashMap.NO_VALUE, map.remove(42));
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(42));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testNegativeKeysAndValuesRejected() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap();
+
+        // Act && Assert
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, -1));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        // Arrange
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act - a small key range forces long probe chains, resizes and backward shift deletions
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.NO_VALUE : removed, map.remove(key));
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.NO_VALUE), map.get(key));
+        }
+    }
+}
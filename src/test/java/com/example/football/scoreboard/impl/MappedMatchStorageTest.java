@@ -0,0 +1,181 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.model.Match;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedMatchStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path storeFile;
+
+    private MappedMatchStorage matchStorage;
+
+    @BeforeEach
+    void setUp() {
+        storeFile = tempDir.resolve("matches.db");
+        matchStorage = new MappedMatchStorage(storeFile);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchStorage.close();
+    }
+
+    @Test
+    void testSaveAndFindMatch() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.of(2024, 6, 1, 15, 0, 0, 1_000));
+        match.updateScore(2, 1);
+
+        // Act
+        matchStorage.saveMatch(match);
+        Match foundMatch = matchStorage.findMatch(match.getMatchId());
+
+        // Assert
+        assertEquals(match.snapshot(), foundMatch.snapshot());
+    }
+
+    @Test
+    void testLiveIndexes() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+
+        // Act
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertSame(match, matchStorage.findMatch("Team A", "Team B"));
+        assertTrue(matchStorage.isTeamInLiveMatch("Team B"));
+
+        // Act
+        match.setLive(false);
+        matchStorage.saveMatch(match);
+
+        // Assert
+        assertNull(matchStorage.findMatch("Team A", "Team B"));
+        assertFalse(matchStorage.isTeamInLiveMatch("Team B"));
+    }
+
+    @Test
+    void testFindMatch_NotFound() {
+        // Act
+        MatchNotFoundException exception = assertThrows(MatchNotFoundException.class, () -> matchStorage.findMatch("invalidId"));
+
+        // Assert
+        assertEquals("No match found with ID: invalidId", exception.getMessage());
+    }
+
+    @Test
+    void testReopen_RestoresMatchesAndLiveState() {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard(matchStorage);
+        Match finished = scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateMatchScore(finished.getMatchId(), 0, 5);
+        scoreboard.finishMatch(finished.getMatchId());
+        Match live = scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateMatchScore(live.getMatchId(), 10, 2);
+
+        // Act
+        matchStorage.close();
+        matchStorage = new MappedMatchStorage(storeFile);
+        Scoreboard restarted = new Scoreboard(matchStorage);
+
+        // Assert
+        assertEquals(2, matchStorage.size());
+        assertEquals(finished.snapshot(), matchStorage.findMatch(finished.getMatchId()).snapshot());
+        assertEquals(live.snapshot(), matchStorage.findMatch("Spain", "Brazil").snapshot());
+        assertEquals(List.of("1. Spain 10 - Brazil 2"), restarted.getMatchSummary());
+        assertEquals(List.of(live.snapshot()), matchStorage.getLiveMatches().stream().map(Match::snapshot).toList());
+    }
+
+    @Test
+    void testReopen_TruncatesTornTeamNameTail() throws IOException {
+        // Arrange
+        Match first = new Match("Spain", "Brazil", 1, 0, LocalDateTime.now());
+        first.setLive(true);
+        matchStorage.saveMatch(first);
+        matchStorage.close();
+        Path teamsFile = tempDir.resolve("matches.db.teams");
+        Files.write(teamsFile, new byte[] { 0, 2, (byte) 0xC3, 0x28 }, StandardOpenOption.APPEND);
+
+        // Act
+        matchStorage = new MappedMatchStorage(storeFile);
+        Match second = new Match("Mexico", "Canada", 0, 3, LocalDateTime.now());
+        second.setLive(true);
+        matchStorage.saveMatch(second);
+        matchStorage.close();
+        matchStorage = new MappedMatchStorage(storeFile);
+
+        // Assert
+        assertEquals(first.snapshot(), matchStorage.findMatch("Spain", "Brazil").snapshot());
+        assertEquals(second.snapshot(), matchStorage.findMatch("Mexico", "Canada").snapshot());
+    }
+
+    @Test
+    void testReopen_TruncatesPartialTeamNameEntry() throws IOException {
+        // Arrange
+        Match first = new Match("Spain", "Brazil", 1, 0, LocalDateTime.now());
+        first.setLive(true);
+        matchStorage.saveMatch(first);
+        matchStorage.close();
+        Path teamsFile = tempDir.resolve("matches.db.teams");
+        long complete = Files.size(teamsFile);
+        Files.write(teamsFile, new byte[] { 0, 16, 'I', 't' }, StandardOpenOption.APPEND);
+
+        // Act
+        matchStorage = new MappedMatchStorage(storeFile);
+
+        // Assert
+        assertEquals(complete, Files.size(teamsFile));
+        assertEquals(first.snapshot(), matchStorage.findMatch("Spain", "Brazil").snapshot());
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        // Arrange
+        for (int i = 0; i < 3_000; i++) {
+            matchStorage.saveMatch(new Match("Home " + i, "Away " + i, i, 0, LocalDateTime.now()));
+        }
+
+        // Act
+        matchStorage.close();
+        matchStorage = new MappedMatchStorage(storeFile);
+        List<Match> matches = matchStorage.getAllMatches();
+
+        // Assert
+        assertEquals(3_000, matches.size());
+        assertEquals(2_999, matches.get(2_999).getHomeTeamScore());
+        assertEquals("Home 2999", matches.get(2_999).getHomeTeam());
+    }
+
+    @Test
+    void testOpen_RejectsForeignFile() throws IOException {
+        // Arrange
+        Path foreignFile = tempDir.resolve("foreign.db");
+        Files.write(foreignFile, new byte[128]);
+
+        // Act && Assert
+        assertThrows(IllegalStateException.class, () -> new MappedMatchStorage(foreignFile));
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path journalFile;
+
+    private MatchJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = tempDir.resolve("scoreboard.journal");
+        journal = new MatchJournal(journalFile);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void testAppendAndReplay() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.of(2024, 6, 1, 15, 0, 0, 1_000));
+        match.setLive(true);
+        journal.append(match);
+        MatchSnapshot started = match.snapshot();
+        match.updateScore(1, 0);
+        journal.append(match);
+        MatchSnapshot scored = match.snapshot();
+
+        // Act
+        journal.close();
+        journal = new MatchJournal(journalFile);
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertEquals(List.of(started, scored), replayed);
+    }
+
+    @Test
+    void testReplay_IgnoresTornTail() throws IOException {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 2, 2, LocalDateTime.now());
+        journal.append(match);
+        journal.close();
+
+        // A crash in the middle of a write leaves a partial frame behind
+        Files.write(journalFile, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // Act
+        journal = new MatchJournal(journalFile);
+        Match next = new Match("Team C", "Team D", 0, 0, LocalDateTime.now());
+        journal.append(next);
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertEquals(List.of(match.snapshot(), next.snapshot()), replayed);
+    }
+
+    @Test
+    void testReplay_StopsAtCorruptEntry() throws IOException {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        journal.append(match);
+        journal.close();
+
+        // Flip a payload byte so the checksum no longer matches
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(journalFile, bytes);
+
+        // Act
+        journal = new MatchJournal(journalFile);
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertTrue(replayed.isEmpty());
+        assertEquals(0, Files.size(journalFile));
+    }
+
+    @Test
+    void testReplay_KeepsEntriesAfterLargeEntry() {
+        // Arrange: team names of more than 64 KiB together are valid entries
+        Match large = new Match("H".repeat(33_000), "A".repeat(33_000), 0, 0, LocalDateTime.now());
+        large.setLive(true);
+        journal.append(large);
+        Match next = new Match("Team C", "Team D", 0, 0, LocalDateTime.now());
+        next.setLive(true);
+        journal.append(next);
+        next.updateScore(1, 0);
+        journal.append(next);
+        long size = journalFile.toFile().length();
+
+        // Act
+        journal.close();
+        journal = new MatchJournal(journalFile);
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertEquals(3, replayed.size());
+        assertEquals(large.snapshot(), replayed.get(0));
+        assertEquals(next.snapshot(), replayed.get(2));
+        assertEquals(size, journalFile.toFile().length());
+    }
+
+    @Test
+    void testAppend_UnencodableEntryLeavesJournalUsable() {
+        // Arrange
+        Match unencodable = new Match("H".repeat(70_000), "Team B", 0, 0, LocalDateTime.now());
+        Match valid = new Match("Team C", "Team D", 0, 0, LocalDateTime.now());
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> journal.appendAll(List.of(valid, unencodable)));
+        journal.append(valid);
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertEquals(List.of(valid.snapshot()), replayed);
+    }
+
+    @Test
+    void testOpen_FailsOnCorruptEntryBeforeValidEntries() throws IOException {
+        // Arrange
+        Match first = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        journal.append(first);
+        journal.append(new Match("Team C", "Team D", 0, 0, LocalDateTime.now()));
+        journal.close();
+
+        // Flip a payload byte of the first entry, the second one is still intact
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[MatchJournal.encode(first.snapshot()).length - 1] ^= 1;
+        Files.write(journalFile, bytes);
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> new MatchJournal(journalFile));
+
+        // Assert
+        assertEquals(bytes.length, Files.size(journalFile));
+    }
+
+    @Test
+    void testConcurrentAppends_ShareCommits() throws Exception {
+        // Arrange
+        journal.close();
+        journal = new MatchJournal(journalFile, Duration.ofMillis(5), 1024);
+        int writers = 16;
+        int appendsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int writer = 0; writer < writers; writer++) {
+            int index = writer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                Match match = new Match("Home " + index, "Away " + index, 0, 0, LocalDateTime.now());
+                for (int goal = 1; goal <= appendsPerWriter; goal++) {
+                    match.updateScore(goal, 0);
+                    journal.append(match);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        List<MatchSnapshot> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+
+        // Assert
+        assertEquals(writers * appendsPerWriter, replayed.size());
+        assertTrue(journal.getCommitCount() < writers * appendsPerWriter,
+                "Expected appends to be grouped, commits: " + journal.getCommitCount());
+    }
+
+    @Test
+    void testAppend_AfterClose() {
+        // Arrange
+        journal.close();
+
+        // Act & Assert
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> journal.append(match));
+        assertEquals("Match journal is closed", exception.getMessage());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchJournal(journalFile, Duration.ofMillis(-1), 10));
+        assertThrows(IllegalArgumentException.class, () -> new MatchJournal(journalFile, Duration.ZERO, 0));
+    }
+
+    @Test
+    void testEncode_Compact() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 3, 1, LocalDateTime.now());
+
+        // Act
+        byte[] frame = MatchJournal.encode(match.snapshot());
+
+        // Assert: frame header, three short strings and the fixed-size fields
+        assertTrue(frame.length < 80, "Unexpected entry size " + frame.length);
+        assertEquals(frame.length - 8, ByteBuffer.wrap(frame).getInt(0));
+    }
+}
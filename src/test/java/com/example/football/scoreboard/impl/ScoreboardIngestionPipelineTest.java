@@ -0,0 +1,263 @@
+package com.example.football.scoreboard.impl;
+
+import com.example.football.scoreboard.exception.MatchNotFoundException;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.ScoreUpdateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardIngestionPipelineTest {
+
+    // Plain HashMap storage that counts writes and records which threads touched it
+    private static class RecordingMatchStorage extends InmemoryMatchStorage {
+
+        final AtomicInteger writes = new AtomicInteger();
+
+        final List<Thread> writerThreads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void saveMatch(Match match) {
+            record();
+            super.saveMatch(match);
+        }
+
+        @Override
+        public void saveMatches(Collection<Match> matches) {
+            record();
+            matches.forEach(super::saveMatch);
+        }
+
+        private void record() {
+            writes.incrementAndGet();
+            if(!writerThreads.contains(Thread.currentThread())) {
+                writerThreads.add(Thread.currentThread());
+            }
+        }
+    }
+
+    private RecordingMatchStorage matchStorage;
+
+    private List<ScoreUpdateResult> rejected;
+
+    private ScoreboardIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        matchStorage = new RecordingMatchStorage();
+        rejected = new CopyOnWriteArrayList<>();
+        pipeline = new ScoreboardIngestionPipeline(new Scoreboard(matchStorage), 1024, rejected::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    void testMutationsAppliedInOrder() throws Exception {
+        // Act
+        Match match = pipeline.startMatch("Mexico", "Canada").get(5, TimeUnit.SECONDS);
+        pipeline.updateMatchScore(match.getMatchId(), 0, 1);
+        pipeline.updateMatchScore(match.getMatchId(), 0, 2);
+        pipeline.flush();
+
+        // Assert
+        assertEquals(List.of("1. Mexico 0 - Canada 2"), pipeline.getMatchSummary().lines());
+
+        // Act
+        pipeline.updateMatchScore(match.getMatchId(), 0, 3);
+        pipeline.finishMatch(match.getMatchId()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(3, match.getAwayTeamScore());
+        assertFalse(match.isLive());
+        assertTrue(pipeline.getMatchSummary().lines().isEmpty());
+    }
+
+    @Test
+    void testFailuresReported() throws Exception {
+        // Act
+        CompletableFuture<Match> sameTeams = pipeline.startMatch("Spain", "Spain");
+        CompletableFuture<Void> unknownFinish = pipeline.finishMatch("unknown");
+        pipeline.updateMatchScore("unknown", 1, 0);
+        pipeline.flush();
+
+        // Assert
+        ExecutionException startFailure = assertThrows(ExecutionException.class, () -> sameTeams.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, startFailure.getCause());
+        ExecutionException finishFailure = assertThrows(ExecutionException.class, () -> unknownFinish.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(MatchNotFoundException.class, finishFailure.getCause());
+        assertEquals(1, rejected.size());
+        assertEquals(ScoreUpdateResult.Status.NOT_FOUND, rejected.get(0).status());
+    }
+
+    @Test
+    void testManyProducers_SingleWriter() throws Exception {
+        // Arrange
+        int producers = 8;
+        int updatesPerProducer = 5_000;
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            matches.add(pipeline.startMatch("Home " + i, "Away " + i).get(5, TimeUnit.SECONDS));
+        }
+        int writesBefore = matchStorage.writes.get();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (Match match : matches) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int goal = 1; goal <= updatesPerProducer; goal++) {
+                    pipeline.updateMatchScore(match.getMatchId(), goal, 0);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        pipeline.flush();
+
+        // Assert
+        matches.forEach(match -> assertEquals(updatesPerProducer, match.getHomeTeamScore()));
+        assertTrue(rejected.isEmpty());
+        assertTrue(matchStorage.writes.get() - writesBefore < producers * updatesPerProducer,
+                "Expected score updates to be batched");
+        assertEquals(1, matchStorage.writerThreads.size(), "Storage must only be written by the writer thread");
+    }
+
+    @Test
+    void testClose_AppliesSubmittedMutations() throws Exception {
+        // Arrange
+        Match match = pipeline.startMatch("Mexico", "Canada").get(5, TimeUnit.SECONDS);
+        pipeline.updateMatchScore(match.getMatchId(), 4, 4);
+
+        // Act
+        pipeline.close();
+
+        // Assert
+        assertEquals(8, match.getTotalScore());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pipeline.updateMatchScore(match.getMatchId(), 5, 4));
+        assertEquals("Ingestion pipeline is closed", exception.getMessage());
+    }
+
+    @Test
+    void testFailingRejectedUpdateHandler_KeepsWriterRunning() throws Exception {
+        // Arrange
+        pipeline.close();
+        pipeline = new ScoreboardIngestionPipeline(new Scoreboard(matchStorage), 1024, result -> {
+            throw new IllegalStateException("Handler failed");
+        });
+
+        // Act
+        pipeline.updateMatchScore("unknown", 1, 0);
+        pipeline.flush();
+        Match match = pipeline.startMatch("Mexico", "Canada").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("Mexico", match.getHomeTeam());
+    }
+
+    @Test
+    void testClose_DrainsEveryAcceptedClaim() throws Exception {
+        // Arrange
+        int producers = 4;
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            matches.add(pipeline.startMatch("Home " + i, "Away " + i).get(5, TimeUnit.SECONDS));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        for (Match match : matches) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int accepted = 0;
+                try {
+                    while (true) {
+                        pipeline.updateMatchScore(match.getMatchId(), accepted + 1, 0);
+                        accepted++;
+                    }
+                } catch (IllegalStateException e) {
+                    return accepted;
+                }
+            }));
+        }
+        start.countDown();
+        Thread.sleep(20);
+        pipeline.close();
+
+        // Assert
+        for (int i = 0; i < producers; i++) {
+            assertEquals(futures.get(i).get(5, TimeUnit.SECONDS), matches.get(i).getHomeTeamScore());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testWriterFailure_FailsClaimedSubmissions() throws Exception {
+        // Arrange: the writer fails while seeding the ranking, after a start was already submitted
+        CountDownLatch seeding = new CountDownLatch(1);
+        CountDownLatch submitted = new CountDownLatch(1);
+        InmemoryMatchStorage failingStorage = new InmemoryMatchStorage() {
+            @Override
+            public List<Match> getLiveMatches() {
+                seeding.countDown();
+                try {
+                    submitted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Storage unavailable");
+            }
+        };
+        ScoreboardIngestionPipeline failingPipeline = new ScoreboardIngestionPipeline(new Scoreboard(failingStorage), 16, result -> { });
+        seeding.await();
+
+        // Act
+        CompletableFuture<Match> started = failingPipeline.startMatch("Mexico", "Canada");
+        CompletableFuture<Void> finished = failingPipeline.finishMatch("unknown");
+        submitted.countDown();
+
+        // Assert
+        ExecutionException startFailure = assertThrows(ExecutionException.class, () -> started.get(5, TimeUnit.SECONDS));
+        assertEquals("Ingestion pipeline writer stopped", startFailure.getCause().getMessage());
+        assertEquals("Storage unavailable", startFailure.getCause().getCause().getMessage());
+        assertThrows(ExecutionException.class, () -> finished.get(5, TimeUnit.SECONDS));
+        failingPipeline.close();
+        assertThrows(IllegalStateException.class, () -> failingPipeline.startMatch("Spain", "Brazil"));
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        Scoreboard scoreboard = new Scoreboard(new InmemoryMatchStorage());
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardIngestionPipeline(scoreboard, 1000, result -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardIngestionPipeline(scoreboard, 0, result -> { }));
+    }
+}
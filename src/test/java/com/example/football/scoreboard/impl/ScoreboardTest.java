@@ -1,26 +1,52 @@
 package com.example.football.scoreboard.impl;
 
+import com.example.football.scoreboard.event.BackpressurePolicy;
+import com.example.football.scoreboard.event.MatchEvent;
+import com.example.football.scoreboard.event.MatchEventPublisher;
+import com.example.football.scoreboard.event.MatchFinished;
+import com.example.football.scoreboard.event.MatchStarted;
+import com.example.football.scoreboard.event.ScoreChanged;
+import com.example.football.scoreboard.id.MatchIdGenerator;
+import com.example.football.scoreboard.metrics.MetricsRegistry;
 import com.example.football.scoreboard.service.MatchStorage;
 import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.MatchFixture;
+import com.example.football.scoreboard.model.MatchSnapshot;
+import com.example.football.scoreboard.model.MatchSummary;
+import com.example.football.scoreboard.model.ScoreUpdate;
+import com.example.football.scoreboard.model.ScoreUpdateResult;
+import com.example.football.scoreboard.model.SummaryRow;
 import com.example.football.scoreboard.exception.MatchNotFoundException;
 import com.example.football.scoreboard.exception.MatchUpdateException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Flow;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
@@ -31,9 +57,13 @@ public class ScoreboardTest {
     @Mock
     private MatchStorage matchStorage;
 
-    @InjectMocks
     private Scoreboard scoreboard;
 
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard(matchStorage);
+    }
+
 
     @Test
     void testStartMatch() {
@@ -66,8 +96,9 @@ public class ScoreboardTest {
         // Mock findMatch to return Null (no match is live between these two teams)
         when(matchStorage.findMatch(homeTeam, awayTeam)).thenReturn(null);
 
-        // Mock getAllMatches to return empty list
-        when(matchStorage.getAllMatches()).thenReturn(Collections.emptyList());
+        // Mock isTeamInLiveMatch to return false (none of the teams is playing)
+        when(matchStorage.isTeamInLiveMatch(homeTeam)).thenReturn(false);
+        when(matchStorage.isTeamInLiveMatch(awayTeam)).thenReturn(false);
 
         // Act
         Match match = scoreboard.startMatch(homeTeam, awayTeam);
@@ -135,8 +166,8 @@ public class ScoreboardTest {
         // Mock findMatch to return Null (no match is live between these two teams)
         when(matchStorage.findMatch(homeTeam, awayTeam)).thenReturn(null);
 
-        // Mock getAllMatches to return list of Match (simulating one match is ongoing with either of the team is part of)
-        when(matchStorage.getAllMatches()).thenReturn(Collections.singletonList(match));
+        // Mock isTeamInLiveMatch (simulating one match is ongoing with either of the team is part of)
+        when(matchStorage.isTeamInLiveMatch(homeTeam)).thenReturn(true);
 
 
         // Act
@@ -389,12 +420,46 @@ public class ScoreboardTest {
         MatchUpdateException exception = assertThrows(MatchUpdateException.class, () -> scoreboard.finishMatch(matchId));
 
         assertEquals("Failed to update the match status", exception.getMessage());
+        assertTrue(liveMatch.isLive(), "A finish that was not saved should be taken back");
+    }
+
+    @Test
+    void testUpdateMatchScore_SaveFailureRevertsScore() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+        long version = match.getScore().version();
+        when(matchStorage.findMatch("match1")).thenReturn(match);
+        doThrow(new RuntimeException("Journal closed")).when(matchStorage).saveMatch(match);
+
+        // Act && Assert
+        assertThrows(RuntimeException.class, () -> scoreboard.updateMatchScore("match1", 3, 0));
+        assertThrows(RuntimeException.class, () -> scoreboard.updateMatchScore("match1", version, 3, 0));
+
+        assertEquals(0, match.getHomeTeamScore());
+        assertEquals(version, match.getScore().version());
+    }
+
+    @Test
+    void testUpdateMatchScores_SaveFailureRevertsScores() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 1, 0, LocalDateTime.now());
+        match.setLive(true);
+        when(matchStorage.findMatch("match1")).thenReturn(match);
+        doThrow(new RuntimeException("Journal closed")).when(matchStorage).saveMatches(any());
+
+        // Act && Assert
+        assertThrows(RuntimeException.class, () -> scoreboard.updateMatchScores(List.of(
+                new ScoreUpdate("match1", 2, 0), new ScoreUpdate("match1", 3, 0))));
+
+        assertEquals(1, match.getHomeTeamScore());
+        assertEquals(0, match.getScore().version());
     }
 
     @Test
     void testGetMatchSummary_EmptyScoreboard() {
         // Arrnage
-        when(matchStorage.getAllMatches()).thenReturn(Collections.emptyList()); // Set as no live matches
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList()); // Set as no live matches
 
         // Act
         List<String> matchSummary = scoreboard.getMatchSummary();
@@ -412,7 +477,7 @@ public class ScoreboardTest {
         Match liveMatch = new Match(homeTeam, awayTeam, 2, 1, now);
         liveMatch.setLive(true);
 
-        when(matchStorage.getAllMatches()).thenReturn(Collections.singletonList(liveMatch)); // only one live match
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.singletonList(liveMatch)); // only one live match
 
         // Act
         List<String> matchSummary = scoreboard.getMatchSummary();
@@ -433,7 +498,7 @@ public class ScoreboardTest {
         Match liveMatch1 = new Match("Mexico", "Canada", 3, 4, LocalDateTime.now().minusMinutes(2));
         liveMatch1.setLive(true);
 
-        when(matchStorage.getAllMatches()).thenReturn(List.of(liveMatch1, liveMatch2, liveMatch3));
+        when(matchStorage.getLiveMatches()).thenReturn(List.of(liveMatch1, liveMatch2, liveMatch3));
 
         List<String> matchSummary = scoreboard.getMatchSummary();
 
@@ -455,7 +520,7 @@ public class ScoreboardTest {
         Match liveMatch1 = new Match("Spain", "Brazil", 2, 2, LocalDateTime.now()); // recent match
         liveMatch1.setLive(true);
 
-        when(matchStorage.getAllMatches()).thenReturn(List.of(liveMatch1, liveMatch2, liveMatch3));
+        when(matchStorage.getLiveMatches()).thenReturn(List.of(liveMatch1, liveMatch2, liveMatch3));
 
         List<String> matchSummary = scoreboard.getMatchSummary();
 
@@ -464,4 +529,616 @@ public class ScoreboardTest {
         assertEquals("2. Mexico 2 - Canada 2", matchSummary.get(1));
         assertEquals("3. Uruguay 2 - Italy 2", matchSummary.get(2));
     }
+
+    @Test
+    void testGetMatchSummary_MaintainedWithoutRereadingStorage() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+
+        Match firstMatch = scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.startMatch("Spain", "Brazil");
+        when(matchStorage.findMatch(firstMatch.getMatchId())).thenReturn(firstMatch);
+
+        // Act
+        scoreboard.updateMatchScore(firstMatch.getMatchId(), 1, 0);
+        List<String> summaryAfterGoal = scoreboard.getMatchSummary();
+        scoreboard.finishMatch(firstMatch.getMatchId());
+        List<String> summaryAfterFinish = scoreboard.getMatchSummary();
+
+        // Assert
+        assertEquals(List.of("1. Uruguay 1 - Italy 0", "2. Spain 0 - Brazil 0"), summaryAfterGoal);
+        assertEquals(List.of("1. Spain 0 - Brazil 0"), summaryAfterFinish);
+        verify(matchStorage, times(1)).getLiveMatches();
+        verify(matchStorage, never()).getAllMatches();
+    }
+
+    @Test
+    void testGetMatchSummarySnapshot_CachedUntilMutation() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Match match = scoreboard.startMatch("Uruguay", "Italy");
+        when(matchStorage.findMatch(match.getMatchId())).thenReturn(match);
+
+        // Act
+        MatchSummary firstSummary = scoreboard.getMatchSummarySnapshot();
+        MatchSummary secondSummary = scoreboard.getMatchSummarySnapshot();
+
+        // Assert
+        assertSame(firstSummary, secondSummary, "Unchanged scoreboard should return the cached summary");
+        assertSame(firstSummary.lines(), scoreboard.getMatchSummary());
+        assertFalse(firstSummary.hasChangedSince(scoreboard.getSummaryVersion()));
+
+        // Act
+        scoreboard.updateMatchScore(match.getMatchId(), 1, 0);
+        MatchSummary updatedSummary = scoreboard.getMatchSummarySnapshot();
+
+        // Assert
+        assertNotSame(firstSummary, updatedSummary);
+        assertTrue(updatedSummary.version() > firstSummary.version());
+        assertTrue(firstSummary.hasChangedSince(scoreboard.getSummaryVersion()));
+        assertEquals(List.of("1. Uruguay 1 - Italy 0"), updatedSummary.lines());
+    }
+
+    @Test
+    void testWriteMatchSummary_Appendable() throws Exception {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.startMatch("Spain", "Brazil");
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        long version = scoreboard.writeMatchSummary(out);
+
+        // Assert
+        assertEquals("1. Spain 0 - Brazil 0\n2. Uruguay 0 - Italy 0\n", out.toString());
+        assertEquals(scoreboard.getSummaryVersion(), version);
+    }
+
+    @Test
+    void testWriteMatchSummary_ByteBufferUtf8() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Match match = scoreboard.startMatch("C\u00f4te d'Ivoire", "Italy");
+        when(matchStorage.findMatch(match.getMatchId())).thenReturn(match);
+        ByteBuffer out = ByteBuffer.allocate(256);
+
+        // Act
+        scoreboard.writeMatchSummary(out);
+        scoreboard.updateMatchScore(match.getMatchId(), 2, 0);
+        long version = scoreboard.writeMatchSummary(out);
+
+        // Assert
+        out.flip();
+        assertEquals("1. C\u00f4te d'Ivoire 0 - Italy 0\n1. C\u00f4te d'Ivoire 2 - Italy 0\n",
+                StandardCharsets.UTF_8.decode(out).toString());
+        assertEquals(scoreboard.getSummaryVersion(), version);
+    }
+
+    @Test
+    void testWriteMatchSummary_ByteBufferTooSmall() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        scoreboard.startMatch("Uruguay", "Italy");
+        ByteBuffer out = ByteBuffer.allocate(8);
+
+        // Act & Assert
+        assertThrows(BufferOverflowException.class, () -> scoreboard.writeMatchSummary(out));
+        assertEquals(0, out.position(), "Nothing should be written when the summary does not fit");
+    }
+
+    @Test
+    void testWriteMatchSummary_NullOutput() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.writeMatchSummary((ByteBuffer) null));
+        assertEquals("Output cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void testGetMatchSummary_Page() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Match uruguay = scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Mexico", "Canada");
+        when(matchStorage.findMatch(uruguay.getMatchId())).thenReturn(uruguay);
+        scoreboard.updateMatchScore(uruguay.getMatchId(), 2, 0);
+
+        // Act - built from the ranking, no full summary is cached yet
+        List<String> topTwo = scoreboard.getTopMatchSummary(2);
+        List<String> secondPage = scoreboard.getMatchSummary(2, 2);
+
+        // Assert
+        assertEquals(List.of("1. Uruguay 2 - Italy 0", "2. Mexico 0 - Canada 0"), topTwo);
+        assertEquals(List.of("3. Spain 0 - Brazil 0"), secondPage);
+        assertTrue(scoreboard.getMatchSummary(5, 2).isEmpty());
+
+        // Act - served from the cached summary
+        List<String> fullSummary = scoreboard.getMatchSummary();
+
+        // Assert
+        assertEquals(fullSummary.subList(0, 2), scoreboard.getTopMatchSummary(2));
+        assertEquals(List.of("3. Spain 0 - Brazil 0"), scoreboard.getMatchSummary(2, Integer.MAX_VALUE));
+        assertTrue(scoreboard.getTopMatchSummary(0).isEmpty());
+    }
+
+    @Test
+    void testGetMatchSummary_NegativePage() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchSummary(-1, 10));
+        assertEquals("Offset and limit cannot be negative", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopMatchSummary(-1));
+    }
+
+    @Test
+    void testGetMatchSummaryRows() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Match uruguay = scoreboard.startMatch("Uruguay", "Italy");
+        Match spain = scoreboard.startMatch("Spain", "Brazil");
+        when(matchStorage.findMatch(uruguay.getMatchId())).thenReturn(uruguay);
+        scoreboard.updateMatchScore(uruguay.getMatchId(), 2, 1);
+
+        // Act
+        List<SummaryRow> rows = scoreboard.getMatchSummaryRows();
+
+        // Assert
+        assertEquals(List.of(
+                new SummaryRow(1, uruguay.getMatchId(), "Uruguay", "Italy", 2, 1, uruguay.getStartTime()),
+                new SummaryRow(2, spain.getMatchId(), "Spain", "Brazil", 0, 0, spain.getStartTime())), rows);
+        assertEquals(scoreboard.getMatchSummary(), rows.stream().map(SummaryRow::line).toList());
+        assertSame(rows, scoreboard.getMatchSummaryRows(), "Unchanged scoreboard should return the cached rows");
+        assertEquals(rows.subList(1, 2), scoreboard.getMatchSummaryRows(1, 5));
+
+        // Act
+        scoreboard.finishMatch(uruguay.getMatchId());
+
+        // Assert
+        assertEquals(List.of(new SummaryRow(1, spain.getMatchId(), "Spain", "Brazil", 0, 0, spain.getStartTime())),
+                scoreboard.getMatchSummaryRows(0, 1));
+        assertTrue(scoreboard.getMatchSummaryRows(1, 1).isEmpty());
+    }
+
+    @Test
+    void testGetMatchSummaryRows_NegativePage() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchSummaryRows(0, -1));
+        assertEquals("Offset and limit cannot be negative", exception.getMessage());
+    }
+
+    @Test
+    void testUpdateMatchScore_CompareAndSet() {
+        // Arrange
+        String matchId = "match1";
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+        long version = match.getScore().version();
+
+        when(matchStorage.findMatch(matchId)).thenReturn(match);
+
+        // Act
+        boolean applied = scoreboard.updateMatchScore(matchId, version, 1, 0);
+        boolean staleApplied = scoreboard.updateMatchScore(matchId, version, 0, 1);
+
+        // Assert
+        assertTrue(applied);
+        assertFalse(staleApplied, "Stale update should be rejected");
+        assertEquals(1, match.getHomeTeamScore());
+        assertEquals(0, match.getAwayTeamScore());
+        verify(matchStorage, times(1)).saveMatch(match);
+    }
+
+    @Test
+    void testUpdateMatchScore_CompareAndSet_NegativeScore() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreboard.updateMatchScore("match1", 0, -1, 0));
+        assertEquals("Score cannot be negative", exception.getMessage());
+    }
+
+    @Test
+    void testGetMatchSnapshot() {
+        // Arrange
+        String matchId = "match1";
+        Match match = new Match("Team A", "Team B", 2, 1, LocalDateTime.now());
+        when(matchStorage.findMatch(matchId)).thenReturn(match);
+
+        // Act
+        MatchSnapshot snapshot = scoreboard.getMatchSnapshot(matchId);
+
+        // Assert
+        assertSame(match.snapshot(), snapshot);
+        assertEquals(3, snapshot.totalScore());
+    }
+
+    @Test
+    void testStartMatch_UsesMatchIdGenerator() {
+        // Arrange
+        Scoreboard sequencedScoreboard = new Scoreboard(matchStorage, () -> "match-42");
+
+        // Act
+        Match match = sequencedScoreboard.startMatch("Team A", "Team B");
+
+        // Assert
+        assertEquals("match-42", match.getMatchId());
+    }
+
+    @Test
+    void testConstructor_NullMatchIdGenerator() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new Scoreboard(matchStorage, null));
+        assertEquals("Match ID generator cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void testUpdateMatchScores_Batch() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Match uruguay = scoreboard.startMatch("Uruguay", "Italy");
+        Match spain = scoreboard.startMatch("Spain", "Brazil");
+        when(matchStorage.findMatch(uruguay.getMatchId())).thenReturn(uruguay);
+        when(matchStorage.findMatch(spain.getMatchId())).thenReturn(spain);
+        when(matchStorage.findMatch("unknown")).thenThrow(new MatchNotFoundException("No match found with ID: unknown"));
+        long versionBefore = scoreboard.getSummaryVersion();
+
+        // Act
+        List<ScoreUpdateResult> results = scoreboard.updateMatchScores(List.of(
+                new ScoreUpdate(uruguay.getMatchId(), 1, 0),
+                new ScoreUpdate("unknown", 1, 1),
+                new ScoreUpdate(spain.getMatchId(), -1, 0),
+                new ScoreUpdate(spain.getMatchId(), 0, 1),
+                new ScoreUpdate(uruguay.getMatchId(), 2, 0)));
+
+        // Assert
+        assertEquals(List.of(ScoreUpdateResult.Status.UPDATED, ScoreUpdateResult.Status.NOT_FOUND,
+                        ScoreUpdateResult.Status.INVALID, ScoreUpdateResult.Status.UPDATED, ScoreUpdateResult.Status.UPDATED),
+                results.stream().map(ScoreUpdateResult::status).toList());
+        assertEquals("No match found with ID: unknown", results.get(1).message());
+        assertEquals("Score cannot be negative", results.get(2).message());
+        assertEquals(2, results.get(4).score().homeTeamScore());
+        assertEquals(List.of("1. Uruguay 2 - Italy 0", "2. Spain 0 - Brazil 1"), scoreboard.getMatchSummary());
+        assertEquals(versionBefore + 1, scoreboard.getSummaryVersion());
+        verify(matchStorage, times(1)).saveMatches(argThat(matches -> List.copyOf(matches).equals(List.of(uruguay, spain))));
+    }
+
+    @Test
+    void testUpdateMatchScores_NothingApplied() {
+        // Arrange
+        when(matchStorage.findMatch("match1")).thenReturn(null);
+        long versionBefore = scoreboard.getSummaryVersion();
+
+        // Act
+        List<ScoreUpdateResult> results = scoreboard.updateMatchScores(List.of(new ScoreUpdate("match1", 1, 0), new ScoreUpdate(" ", 1, 0)));
+
+        // Assert
+        assertEquals(ScoreUpdateResult.Status.NOT_FOUND, results.get(0).status());
+        assertEquals(ScoreUpdateResult.Status.INVALID, results.get(1).status());
+        assertFalse(results.get(0).isUpdated());
+        assertEquals(versionBefore, scoreboard.getSummaryVersion());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testUpdateMatchScores_NullBatch() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreboard.updateMatchScores(null));
+        assertEquals("Score updates cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void testStartMatches() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        long versionBefore = scoreboard.getSummaryVersion();
+
+        // Act
+        List<Match> matches = scoreboard.startMatches(List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Brazil")));
+
+        // Assert
+        assertEquals(2, matches.size());
+        assertTrue(matches.stream().allMatch(Match::isLive));
+        assertEquals("Mexico", matches.get(0).getHomeTeam());
+        assertEquals("Brazil", matches.get(1).getAwayTeam());
+        assertEquals(versionBefore + 1, scoreboard.getSummaryVersion());
+        assertEquals(2, scoreboard.getMatchSummary().size());
+        verify(matchStorage, times(1)).saveMatches(matches);
+        verify(matchStorage, never()).saveMatch(any());
+    }
+
+    @Test
+    void testStartMatches_ConflictWithinBatch() {
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scoreboard.startMatches(
+                List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Mexico"))));
+
+        // Assert
+        assertEquals("Cannot start the matches: the team Mexico appears in more than one fixture.", exception.getMessage());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testStartMatches_TeamAlreadyLive() {
+        // Arrange
+        when(matchStorage.isTeamInLiveMatch(any())).thenAnswer(invocation -> "Brazil".equals(invocation.getArgument(0)));
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scoreboard.startMatches(
+                List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Brazil"))));
+
+        // Assert
+        assertEquals("Cannot start the matches: a match involving the team Brazil is already in progress.", exception.getMessage());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testStartMatches_InvalidFixture() {
+        // Act & Assert
+        IllegalArgumentException sameTeams = assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatches(
+                List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Spain"))));
+        assertEquals("Home and Away Teams must be different.", sameTeams.getMessage());
+
+        IllegalArgumentException nullFixtures = assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatches(null));
+        assertEquals("Fixtures cannot be null", nullFixtures.getMessage());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testFinishMatches() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        List<Match> matches = scoreboard.startMatches(List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Brazil")));
+        Match uruguay = scoreboard.startMatch("Uruguay", "Italy");
+        matches.forEach(match -> when(matchStorage.findMatch(match.getMatchId())).thenReturn(match));
+        long versionBefore = scoreboard.getSummaryVersion();
+
+        // Act
+        scoreboard.finishMatches(matches.stream().map(Match::getMatchId).toList());
+
+        // Assert
+        assertTrue(matches.stream().noneMatch(Match::isLive));
+        assertEquals(List.of("1. " + uruguay.getHomeTeam() + " 0 - Italy 0"), scoreboard.getMatchSummary());
+        assertEquals(versionBefore + 1, scoreboard.getSummaryVersion());
+    }
+
+    @Test
+    void testFinishMatches_NothingFinishedWhenOneIsInvalid() {
+        // Arrange
+        Match live = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        live.setLive(true);
+        Match finished = new Match("Team C", "Team D", 1, 0, LocalDateTime.now());
+        when(matchStorage.findMatch("live")).thenReturn(live);
+        when(matchStorage.findMatch("finished")).thenReturn(finished);
+        when(matchStorage.findMatch("unknown")).thenReturn(null);
+
+        // Act & Assert
+        IllegalStateException finishedException = assertThrows(IllegalStateException.class, () -> scoreboard.finishMatches(List.of("live", "finished")));
+        assertEquals("The match finished is already finished", finishedException.getMessage());
+
+        MatchNotFoundException notFoundException = assertThrows(MatchNotFoundException.class, () -> scoreboard.finishMatches(List.of("live", "unknown")));
+        assertEquals("No match found with ID: unknown", notFoundException.getMessage());
+
+        IllegalArgumentException duplicateException = assertThrows(IllegalArgumentException.class, () -> scoreboard.finishMatches(List.of("live", "live")));
+        assertEquals("The match live appears more than once", duplicateException.getMessage());
+
+        assertTrue(live.isLive());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testFinishMatches_ConcurrentFinishWins() {
+        // Arrange
+        Match first = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        first.setLive(true);
+        Match second = new Match("Team C", "Team D", 0, 0, LocalDateTime.now());
+        second.setLive(true);
+        when(matchStorage.findMatch("first")).thenReturn(first);
+        when(matchStorage.findMatch("second")).thenAnswer(invocation -> {
+            // A finishMatch of the first match completes while the batch is being validated
+            first.setLive(false);
+            return second;
+        });
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scoreboard.finishMatches(List.of("first", "second")));
+        assertEquals("The match first is already finished", exception.getMessage());
+        assertTrue(second.isLive());
+        verify(matchStorage, never()).saveMatches(any());
+    }
+
+    @Test
+    void testFinishMatches_SaveFailure() {
+        // Arrange
+        Match live = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        live.setLive(true);
+        when(matchStorage.findMatch("live")).thenReturn(live);
+        doThrow(new RuntimeException("Storage failure")).when(matchStorage).saveMatches(any());
+
+        // Act & Assert
+        MatchUpdateException exception = assertThrows(MatchUpdateException.class, () -> scoreboard.finishMatches(List.of("live")));
+        assertEquals("Failed to update the match status", exception.getMessage());
+        assertTrue(live.isLive(), "A finish that was not saved should be taken back");
+    }
+
+    // Stores matches one at a time like the default saveMatches and fails the second save of every batch
+    private static class FailingBatchStorage extends InmemoryMatchStorage {
+
+        private boolean inBatch;
+
+        private int batchSaves;
+
+        @Override
+        public void saveMatch(Match match) {
+            if(inBatch && ++batchSaves == 2) {
+                throw new IllegalStateException("Match store is full");
+            }
+            super.saveMatch(match);
+        }
+
+        @Override
+        public void saveMatches(Collection<Match> matches) {
+            inBatch = true;
+            batchSaves = 0;
+            try {
+                matches.forEach(this::saveMatch);
+            } finally {
+                inBatch = false;
+            }
+        }
+    }
+
+    @Test
+    void testStartMatches_PartialSaveRolledBack() {
+        // Arrange
+        FailingBatchStorage storage = new FailingBatchStorage();
+        Scoreboard batchScoreboard = new Scoreboard(storage);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> batchScoreboard.startMatches(
+                List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Brazil"))));
+
+        // Assert - the fixture stored before the failure no longer blocks its teams
+        assertFalse(storage.isTeamInLiveMatch("Mexico"));
+        assertTrue(storage.getLiveMatches().isEmpty());
+        assertTrue(batchScoreboard.getMatchSummary().isEmpty());
+        assertEquals("Mexico", batchScoreboard.startMatch("Mexico", "Canada").getHomeTeam());
+    }
+
+    @Test
+    void testFinishMatches_PartialSaveRolledBack() {
+        // Arrange
+        FailingBatchStorage storage = new FailingBatchStorage();
+        Scoreboard batchScoreboard = new Scoreboard(storage);
+        Match first = batchScoreboard.startMatch("Mexico", "Canada");
+        Match second = batchScoreboard.startMatch("Spain", "Brazil");
+
+        // Act
+        assertThrows(MatchUpdateException.class, () -> batchScoreboard.finishMatches(List.of(first.getMatchId(), second.getMatchId())));
+
+        // Assert - the match stored as finished before the failure is live and indexed again
+        assertTrue(first.isLive());
+        assertSame(first, storage.findMatch("Mexico", "Canada"));
+        assertTrue(storage.isTeamInLiveMatch("Canada"));
+        assertEquals(2, batchScoreboard.getMatchSummary().size());
+    }
+
+    @Test
+    void testSubscribe_ReceivesMatchEvents() {
+        // Arrange
+        when(matchStorage.getLiveMatches()).thenReturn(Collections.emptyList());
+        Scoreboard publishingScoreboard = new Scoreboard(matchStorage, MatchIdGenerator.defaultGenerator(),
+                new MatchEventPublisher(Runnable::run, 16, BackpressurePolicy.ERROR));
+        List<MatchEvent> events = new ArrayList<>();
+        publishingScoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(MatchEvent item) {
+                events.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // Act
+        Match match = publishingScoreboard.startMatch("Mexico", "Canada");
+        when(matchStorage.findMatch(match.getMatchId())).thenReturn(match);
+        publishingScoreboard.updateMatchScore(match.getMatchId(), 0, 1);
+        publishingScoreboard.finishMatch(match.getMatchId());
+
+        // Assert
+        assertEquals(3, events.size());
+        assertInstanceOf(MatchStarted.class, events.get(0));
+        ScoreChanged scoreChanged = assertInstanceOf(ScoreChanged.class, events.get(1));
+        assertEquals(1, scoreChanged.match().awayTeamScore());
+        MatchFinished finished = assertInstanceOf(MatchFinished.class, events.get(2));
+        assertFalse(finished.match().live());
+        assertEquals(publishingScoreboard.getSummaryVersion(), finished.summaryVersion());
+    }
+
+    @Test
+    void testConstructor_NullEventPublisher() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new Scoreboard(matchStorage, MatchIdGenerator.defaultGenerator(), null));
+        assertEquals("Event publisher cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void testMetrics_RecordOperationsAndGauges() {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.create();
+        Scoreboard measuredScoreboard = new Scoreboard(matchStorage, MatchIdGenerator.defaultGenerator(), new MatchEventPublisher(), metrics);
+
+        // Act
+        Match match = measuredScoreboard.startMatch("Mexico", "Canada");
+        when(matchStorage.findMatch(match.getMatchId())).thenReturn(match);
+        measuredScoreboard.updateMatchScore(match.getMatchId(), 0, 1);
+        measuredScoreboard.getMatchSummary();
+
+        // Assert
+        assertEquals(1, metrics.getTimers().get("scoreboard.startMatch").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.updateMatchScore").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.getMatchSummary").getCount());
+        assertEquals(0, metrics.getTimers().get("scoreboard.finishMatch").getCount());
+        assertEquals(1L, metrics.getGaugeValues().get("scoreboard.liveMatches"));
+        assertEquals(2L, metrics.getGaugeValues().get("scoreboard.summaryVersion"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> {
+            measuredScoreboard.finishMatch(match.getMatchId());
+            measuredScoreboard.finishMatch(match.getMatchId());
+        });
+
+        // Assert - failed calls are timed as well
+        assertEquals(2, metrics.getTimers().get("scoreboard.finishMatch").getCount());
+        assertEquals(0L, metrics.getGaugeValues().get("scoreboard.liveMatches"));
+    }
+
+    @Test
+    void testMetrics_BatchPageAndWriterOperationsTimed() throws Exception {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.create();
+        Scoreboard measuredScoreboard = new Scoreboard(matchStorage, MatchIdGenerator.defaultGenerator(), new MatchEventPublisher(), metrics);
+
+        // Act
+        List<Match> matches = measuredScoreboard.startMatches(List.of(new MatchFixture("Mexico", "Canada"), new MatchFixture("Spain", "Brazil")));
+        measuredScoreboard.getTopMatchSummary(1);
+        measuredScoreboard.getMatchSummary(1, 1);
+        measuredScoreboard.getMatchSummaryRows();
+        measuredScoreboard.getMatchSummaryRows(0, 1);
+        measuredScoreboard.writeMatchSummary(new StringBuilder());
+        measuredScoreboard.writeMatchSummary(ByteBuffer.allocate(256));
+        for (Match match : matches) {
+            when(matchStorage.findMatch(match.getMatchId())).thenReturn(match);
+        }
+        measuredScoreboard.finishMatches(matches.stream().map(Match::getMatchId).toList());
+
+        // Assert
+        assertEquals(1, metrics.getTimers().get("scoreboard.startMatches").getCount());
+        assertEquals(2, metrics.getTimers().get("scoreboard.getMatchSummaryPage").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.getMatchSummaryRows").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.getMatchSummaryRowsPage").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.writeMatchSummaryText").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.writeMatchSummaryBytes").getCount());
+        assertEquals(1, metrics.getTimers().get("scoreboard.finishMatches").getCount());
+        // The writers are timed on their own, not also as summary reads
+        assertEquals(0, metrics.getTimers().get("scoreboard.getMatchSummary").getCount());
+    }
+
+    @Test
+    void testConstructor_NullMetricsRegistry() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new Scoreboard(matchStorage, MatchIdGenerator.defaultGenerator(), new MatchEventPublisher(), null));
+        assertEquals("Metrics registry cannot be null", exception.getMessage());
+    }
 }
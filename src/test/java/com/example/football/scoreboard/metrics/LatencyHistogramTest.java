@@ -0,0 +1,96 @@
+package com.example.football.scoreboard.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testGetValueAtPercentile_Empty() {
+        // Act & Assert
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testGetValueAtPercentile_SmallValuesAreExact() {
+        // Arrange
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+
+        // Act & Assert
+        assertEquals(20, histogram.getCount());
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    void testGetValueAtPercentile_LargeValuesWithinPrecision() {
+        // Arrange
+        for (int i = 0; i < 990; i++) {
+            histogram.record(50_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(5_000_000);
+        }
+
+        // Act
+        long p50 = histogram.getValueAtPercentile(50);
+        long p999 = histogram.getValueAtPercentile(99.9);
+
+        // Assert
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 1.04, "p50 was " + p50);
+        assertTrue(p999 >= 5_000_000 && p999 <= 5_000_000 * 1.04, "p99.9 was " + p999);
+    }
+
+    @Test
+    void testBucketIndex_CoversWholeRange() {
+        // Act & Assert
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            long upper = LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(value));
+            assertTrue(upper >= value && upper <= value + value / 16, "value " + value + " mapped to " + upper);
+        }
+    }
+
+    @Test
+    void testRecord_NegativeCountsAsZero() {
+        // Act
+        histogram.record(-5);
+
+        // Assert
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testReset() {
+        // Arrange
+        histogram.record(1_000);
+
+        // Act
+        histogram.reset();
+
+        // Assert
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    void testGetValueAtPercentile_OutOfRange() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertEquals("Percentile must be between 0 and 100", exception.getMessage());
+    }
+}
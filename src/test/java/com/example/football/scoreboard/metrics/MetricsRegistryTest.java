@@ -0,0 +1,112 @@
+package com.example.football.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void testTimer_RecordsCountMeanAndMax() {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.create();
+        Timer timer = metrics.timer("storage.saveMatch");
+
+        // Act
+        timer.record(1_000);
+        timer.record(3_000);
+
+        // Assert
+        assertSame(timer, metrics.timer("storage.saveMatch"));
+        assertEquals(2, timer.getCount());
+        assertEquals(2_000, timer.getMeanNanos());
+        assertEquals(3_000, timer.getMaxNanos());
+        assertTrue(timer.getPercentileNanos(100) >= 3_000);
+    }
+
+    @Test
+    void testTimer_StartStop() {
+        // Arrange
+        Timer timer = MetricsRegistry.create().timer("scoreboard.startMatch");
+
+        // Act
+        long start = timer.start();
+        timer.stop(start);
+
+        // Assert
+        assertEquals(1, timer.getCount());
+    }
+
+    @Test
+    void testDisabled_RecordsNothing() {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.disabled();
+        Timer timer = metrics.timer("scoreboard.startMatch");
+
+        // Act
+        timer.stop(timer.start());
+        metrics.gauge("scoreboard.liveMatches", () -> 1);
+
+        // Assert
+        assertFalse(timer.isEnabled());
+        assertEquals(0, timer.start());
+        assertEquals(0, timer.getCount());
+        assertTrue(metrics.getTimers().isEmpty());
+        assertTrue(metrics.getGaugeValues().isEmpty());
+    }
+
+    @Test
+    void testGauge_ReadOnDemand() {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.create();
+        AtomicLong live = new AtomicLong();
+        metrics.gauge("scoreboard.liveMatches", live::get);
+
+        // Act
+        live.set(4);
+
+        // Assert
+        assertEquals(4L, metrics.getGaugeValues().get("scoreboard.liveMatches"));
+    }
+
+    @Test
+    void testTimer_BlankName() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.create().timer(" "));
+        assertEquals("Metric name cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    void testRegisterMBean_ExposesTimersAndGauges() throws Exception {
+        // Arrange
+        MetricsRegistry metrics = MetricsRegistry.create();
+        metrics.timer("scoreboard.updateMatchScore").record(2_000);
+        metrics.gauge("scoreboard.liveMatches", () -> 3);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // Act
+        ObjectName name = metrics.registerMBean("com.example.football.scoreboard:type=MetricsTest");
+        try {
+            // Assert
+            assertEquals(1L, server.getAttribute(name, "scoreboard.updateMatchScore.count"));
+            assertEquals(2_000L, server.getAttribute(name, "scoreboard.updateMatchScore.maxNanos"));
+            assertEquals(3L, server.getAttribute(name, "scoreboard.liveMatches"));
+            ReflectionException exception = assertThrows(ReflectionException.class, () -> server.invoke(name, "reset", null, null));
+            assertInstanceOf(NoSuchMethodException.class, exception.getCause());
+        } finally {
+            metrics.unregisterMBean(name);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
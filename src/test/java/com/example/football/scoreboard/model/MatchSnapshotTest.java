@@ -0,0 +1,47 @@
+package com.example.football.scoreboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchSnapshotTest {
+
+    private static final Team TEAM_A = TeamRegistry.global().register("Team A");
+
+    private static final Team TEAM_B = TeamRegistry.global().register("Team B");
+
+    @Test
+    void testWithScore() {
+        // Arrange
+        MatchSnapshot snapshot = new MatchSnapshot("match1", TEAM_A, TEAM_B, new Score(0, 0, 0), LocalDateTime.now(), true);
+
+        // Act
+        MatchSnapshot updated = snapshot.withScore(2, 1);
+
+        // Assert
+        assertEquals(0, snapshot.totalScore(), "Original snapshot should not change");
+        assertEquals(2, updated.homeTeamScore());
+        assertEquals(1, updated.awayTeamScore());
+        assertEquals(3, updated.totalScore());
+        assertEquals(1, updated.score().version());
+        assertEquals(snapshot.matchId(), updated.matchId());
+    }
+
+    @Test
+    void testWithLive() {
+        // Arrange
+        MatchSnapshot snapshot = new MatchSnapshot("match1", TEAM_A, TEAM_B, new Score(1, 0, 1), LocalDateTime.now(), true);
+
+        // Act
+        MatchSnapshot finished = snapshot.withLive(false);
+
+        // Assert
+        assertTrue(snapshot.live());
+        assertFalse(finished.live());
+        assertEquals(snapshot.score(), finished.score());
+    }
+}
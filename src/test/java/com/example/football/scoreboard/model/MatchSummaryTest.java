@@ -0,0 +1,38 @@
+package com.example.football.scoreboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchSummaryTest {
+
+    @Test
+    void testHasChangedSince() {
+        // Arrange
+        MatchSummary summary = new MatchSummary(3, List.of("1. Team A 1 - Team B 0"));
+
+        // Act && Assert
+        assertFalse(summary.hasChangedSince(3));
+        assertTrue(summary.hasChangedSince(2));
+    }
+
+    @Test
+    void testLinesAreImmutableCopy() {
+        // Arrange
+        List<String> lines = new ArrayList<>(List.of("1. Team A 1 - Team B 0"));
+        MatchSummary summary = new MatchSummary(1, lines);
+
+        // Act
+        lines.add("2. Team C 0 - Team D 0");
+
+        // Assert
+        assertEquals(1, summary.lines().size());
+        assertThrows(UnsupportedOperationException.class, () -> summary.lines().add("3. Team E 0 - Team F 0"));
+    }
+}
@@ -3,10 +3,17 @@ package com.example.football.scoreboard.model;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -124,4 +131,106 @@ public class MatchTest {
         // Assert
         assertNotEquals(matchId1, matchId2, "Match IDs should be unique for each instance");
     }
+
+    @Test
+    void testUpdateScore() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+
+        // Act
+        Score score = match.updateScore(2, 1);
+
+        // Assert
+        assertEquals(new Score(2, 1, 1), score);
+        assertEquals(score, match.getScore());
+        assertEquals(3, match.getTotalScore());
+    }
+
+    @Test
+    void testCompareAndSetScore() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        long version = match.getScore().version();
+
+        // Act
+        boolean applied = match.compareAndSetScore(version, 1, 0);
+        boolean staleApplied = match.compareAndSetScore(version, 0, 1);
+
+        // Assert
+        assertTrue(applied, "Update with the current version should be applied");
+        assertFalse(staleApplied, "Update with a stale version should be rejected");
+        assertEquals(new Score(1, 0, version + 1), match.getScore());
+    }
+
+    @Test
+    void testConcurrentScoreUpdates_PublishedTogether() throws Exception {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        int updatesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act - every writer keeps home and away score equal
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 4; writer++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < updatesPerThread; i++) {
+                    Score current = match.getScore();
+                    assertEquals(current.homeTeamScore(), current.awayTeamScore(), "Readers should never see a half-applied score");
+                    match.updateScore(i, i);
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(4L * updatesPerThread, match.getScore().version());
+    }
+
+    @Test
+    void testSnapshot_UnaffectedByLaterUpdates() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        match.setLive(true);
+        MatchSnapshot snapshot = match.snapshot();
+
+        // Act
+        match.updateScore(3, 2);
+        match.setLive(false);
+
+        // Assert
+        assertEquals(0, snapshot.totalScore());
+        assertTrue(snapshot.live());
+        assertEquals(5, match.snapshot().totalScore());
+        assertFalse(match.snapshot().live());
+        assertEquals(match.getMatchId(), snapshot.matchId());
+    }
+
+    @Test
+    void testTeamNamesInterned() {
+        // Arrange
+        Match match1 = new Match(new String("Team A"), new String("Team B"), 0, 0, LocalDateTime.now());
+        Match match2 = new Match(new String("Team B"), new String("Team A"), 0, 0, LocalDateTime.now());
+
+        // Assert
+        assertSame(match1.getHomeTeam(), match2.getAwayTeam(), "Team names should share one canonical instance");
+        assertEquals(match1.getHomeTeamId(), match2.getAwayTeamId());
+        assertEquals(match1.getAwayTeamId(), match2.getHomeTeamId());
+        assertNotEquals(match1.getHomeTeamId(), match1.getAwayTeamId());
+    }
+
+    @Test
+    void testCompareAndSet() {
+        // Arrange
+        Match match = new Match("Team A", "Team B", 0, 0, LocalDateTime.now());
+        MatchSnapshot initial = match.snapshot();
+        MatchSnapshot scored = initial.withScore(1, 0);
+
+        // Act && Assert
+        assertTrue(match.compareAndSet(initial, scored));
+        assertFalse(match.compareAndSet(initial, initial.withScore(0, 1)), "Stale expected snapshot should be rejected");
+        assertSame(scored, match.snapshot());
+    }
 }
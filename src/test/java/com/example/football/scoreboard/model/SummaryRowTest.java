@@ -0,0 +1,31 @@
+package com.example.football.scoreboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SummaryRowTest {
+
+    @Test
+    void testOf() {
+        // Arrange
+        Match match = new Match("Mexico", "Canada", 0, 5, LocalDateTime.now());
+
+        // Act
+        SummaryRow row = SummaryRow.of(1, match.snapshot());
+
+        // Assert
+        assertEquals(new SummaryRow(1, match.getMatchId(), "Mexico", "Canada", 0, 5, match.getStartTime()), row);
+    }
+
+    @Test
+    void testLine() {
+        // Arrange
+        SummaryRow row = new SummaryRow(2, "match1", "Spain", "Brazil", 10, 2, LocalDateTime.now());
+
+        // Act && Assert
+        assertEquals("2. Spain 10 - Brazil 2", row.line());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.football.scoreboard.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    void testRegister_ReturnsCanonicalTeam() {
+        // Act
+        Team first = registry.register(new String("Mexico"));
+        Team second = registry.register(new String("Mexico"));
+        Team other = registry.register("Canada");
+
+        // Assert
+        assertSame(first, second);
+        assertSame(first.name(), second.name());
+        assertNotEquals(first.id(), other.id());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void testFindAndGet() {
+        // Arrange
+        Team team = registry.register("Mexico");
+
+        // Act && Assert
+        assertSame(team, registry.find("Mexico"));
+        assertSame(team, registry.get(team.id()));
+        assertNull(registry.find("Unknown"));
+        assertNull(registry.find(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(99));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(null));
+    }
+
+    @Test
+    void testFixtureKey() {
+        // Arrange
+        Team home = registry.register("Mexico");
+        Team away = registry.register("Canada");
+
+        // Act && Assert
+        assertNotEquals(Team.fixtureKey(home, away), Team.fixtureKey(away, home));
+        assertEquals(Team.fixtureKey(home, away), Team.fixtureKey(registry.find("Mexico"), registry.find("Canada")));
+    }
+
+    @Test
+    void testConcurrentRegistration_DenseUniqueIds() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Team> teams = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    teams.add(registry.register("Team " + i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(500, teams.size());
+        for (int id = 0; id < 500; id++) {
+            assertEquals(id, registry.get(id).id());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.model.Match;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardHttpServerTest {
+
+    private ScoreboardHttpServer server;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new ScoreboardHttpServer(new Scoreboard(new ConcurrentMatchStorage()), 0);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String matchId(String json) {
+        return (String) Json.parseObject(json).get("matchId");
+    }
+
+    @Test
+    void testMatchLifecycle() throws Exception {
+        // Act
+        HttpResponse<String> started = send("POST", "/matches", "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}");
+        String matchId = matchId(started.body());
+        HttpResponse<String> updated = send("PUT", "/matches/" + matchId + "/score", "{\"homeTeamScore\":0,\"awayTeamScore\":5}");
+        HttpResponse<String> byId = send("GET", "/matches/" + matchId, null);
+        HttpResponse<String> byTeams = send("GET", "/matches?homeTeam=Mexico&awayTeam=Canada", null);
+        HttpResponse<String> summary = send("GET", "/summary", null);
+        HttpResponse<String> finished = send("POST", "/matches/" + matchId + "/finish", null);
+
+        // Assert
+        assertEquals(201, started.statusCode());
+        assertEquals("application/json; charset=utf-8", started.headers().firstValue("Content-Type").orElse(""));
+        assertEquals(200, updated.statusCode());
+        assertEquals(5L, Json.parseObject(updated.body()).get("awayTeamScore"));
+        assertEquals(updated.body(), byId.body());
+        assertEquals(matchId, matchId(byTeams.body()));
+        assertEquals(200, summary.statusCode());
+        assertTrue(summary.body().endsWith(",\"matches\":[\"1. Mexico 0 - Canada 5\"]}"));
+        assertEquals(Boolean.FALSE, Json.parseObject(finished.body()).get("live"));
+    }
+
+    @Test
+    void testErrorStatuses() throws Exception {
+        // Arrange
+        send("POST", "/matches", "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\"}");
+
+        // Act & Assert
+        assertEquals(400, send("POST", "/matches", "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Spain\"}").statusCode());
+        assertEquals(400, send("POST", "/matches", "{\"homeTeam\":").statusCode());
+        assertEquals(409, send("POST", "/matches", "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\"}").statusCode());
+        HttpResponse<String> notFound = send("GET", "/matches/unknown", null);
+        assertEquals(404, notFound.statusCode());
+        assertEquals(Map.of("error", "No match found with ID: unknown"), Json.parseObject(notFound.body()));
+        assertEquals(400, send("PUT", "/matches/unknown/score", "{\"homeTeamScore\":\"one\",\"awayTeamScore\":0}").statusCode());
+        assertEquals(405, send("DELETE", "/summary", null).statusCode());
+    }
+
+    @Test
+    void testSummaryPage() throws Exception {
+        // Arrange
+        send("POST", "/matches", "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}");
+        send("POST", "/matches", "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\"}");
+
+        // Act
+        HttpResponse<String> page = send("GET", "/summary?offset=1&limit=1", null);
+        HttpResponse<String> invalid = send("GET", "/summary?limit=ten", null);
+
+        // Assert
+        assertEquals(200, page.statusCode());
+        assertTrue(page.body().endsWith(",\"matches\":[\"2. Mexico 0 - Canada 0\"]}"));
+        assertEquals(400, invalid.statusCode());
+    }
+
+    @Test
+    void testSummaryRows() throws Exception {
+        // Arrange
+        String matchId = matchId(send("POST", "/matches", "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}").body());
+        send("PUT", "/matches/" + matchId + "/score", "{\"homeTeamScore\":0,\"awayTeamScore\":5}");
+
+        // Act
+        HttpResponse<String> rows = send("GET", "/summary/rows", null);
+        HttpResponse<String> emptyPage = send("GET", "/summary/rows?offset=1", null);
+
+        // Assert
+        assertEquals(200, rows.statusCode());
+        assertTrue(rows.body().contains("\"matches\":[{\"rank\":1,\"matchId\":\"" + matchId
+                + "\",\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeTeamScore\":0,\"awayTeamScore\":5,\"startTime\":"));
+        assertTrue(emptyPage.body().endsWith(",\"matches\":[]}"));
+        assertEquals(404, send("GET", "/summary/unknown", null).statusCode());
+    }
+
+    @Test
+    void testKeepAlive_ManyRequestsOnOneClient() throws Exception {
+        // Arrange
+        String matchId = matchId(send("POST", "/matches", "{\"homeTeam\":\"Germany\",\"awayTeam\":\"France\"}").body());
+
+        // Act
+        for (int goal = 1; goal <= 200; goal++) {
+            assertEquals(200, send("PUT", "/matches/" + matchId + "/score", "{\"homeTeamScore\":" + goal + ",\"awayTeamScore\":0}").statusCode());
+        }
+
+        // Assert
+        assertEquals(200L, Json.parseObject(send("GET", "/matches/" + matchId, null).body()).get("homeTeamScore"));
+    }
+
+    @Test
+    void testStorageFailure_MappedToServerError() throws Exception {
+        // Arrange
+        server.close();
+        server = new ScoreboardHttpServer(new Scoreboard(new ConcurrentMatchStorage() {
+            @Override
+            public Match findMatch(String homeTeam, String awayTeam) {
+                throw new UncheckedIOException("Disk failure", new IOException("Disk failure"));
+            }
+        }), 0);
+
+        // Act
+        HttpResponse<String> response = send("GET", "/matches?homeTeam=Mexico&awayTeam=Canada", null);
+
+        // Assert
+        assertEquals(500, response.statusCode());
+        assertEquals(Map.of("error", "Disk failure"), Json.parseObject(response.body()));
+    }
+
+    @Test
+    void testJson() {
+        assertEquals(Map.of("name", "C\u00f4te \"d'Ivoire\"\n", "score", -3L, "live", true),
+                Json.parseObject(" { \"name\" : \"C\\u00f4te \\\"d'Ivoire\\\"\\n\", \"score\": -3, \"live\": true } "));
+        StringBuilder quoted = new StringBuilder();
+        Json.quote(quoted, "a\"b\\c\u0001");
+        assertEquals("\"a\\\"b\\\\c\\u0001\"", quoted.toString());
+    }
+
+    @Test
+    void testSummaryStream() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            // Arrange
+            socket.getOutputStream().write("GET /summary/stream HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals("HTTP/1.1 200 OK", reader.readLine());
+            assertTrue(readUntil(reader, "data: ").contains("\"matches\":[]"));
+
+            // Act
+            send("POST", "/matches", "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\"}");
+
+            // Assert
+            assertTrue(readUntil(reader, "event: ").contains("delta"));
+            String delta = readUntil(reader, "data: ");
+            assertTrue(delta.contains("\"size\":1,\"rows\":[{\"matchId\":"));
+            assertTrue(delta.contains("\"rank\":1,\"previousRank\":null,\"homeTeam\":\"Mexico\""));
+            assertTrue(delta.contains("\"line\":\"1. Mexico 0 - Canada 0\"}],\"removed\":[]"));
+            assertEquals(1, server.getStreamClientCount());
+        }
+    }
+
+    private static String readUntil(BufferedReader reader, String prefix) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if(line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        throw new IOException("Stream ended before " + prefix);
+    }
+}
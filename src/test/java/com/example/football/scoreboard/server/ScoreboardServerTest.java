@@ -0,0 +1,168 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.model.Match;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardServerTest {
+
+    private Scoreboard scoreboard;
+
+    private ScoreboardServer server;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard(new ConcurrentMatchStorage());
+        server = new ScoreboardServer(scoreboard, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private static class Client implements AutoCloseable {
+
+        private final Socket socket;
+
+        private final BufferedReader reader;
+
+        private final PrintWriter writer;
+
+        Client(int port) throws IOException {
+            socket = new Socket("localhost", port);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        String send(String command) throws IOException {
+            writer.print(command + "\n");
+            writer.flush();
+            return reader.readLine();
+        }
+
+        String readLine() throws IOException {
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    void testSessionCommands() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            // Act
+            String started = client.send("START|Mexico|Canada");
+            String matchId = started.substring("OK|".length());
+
+            // Assert
+            assertTrue(started.startsWith("OK|"));
+            assertEquals("OK", client.send("UPDATE|" + matchId + "|0|5"));
+            assertEquals("OK|" + matchId + "|Mexico|Canada|0|5|true", client.send("GET|" + matchId));
+            assertEquals("OK|1", client.send("SUMMARY"));
+            assertEquals("1. Mexico 0 - Canada 5", client.readLine());
+            assertEquals("OK", client.send("FINISH|" + matchId));
+            assertEquals("OK|0", client.send("SUMMARY"));
+            assertEquals("BYE", client.send("QUIT"));
+        }
+    }
+
+    @Test
+    void testErrorsKeepSessionOpen() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            assertEquals("ERROR|Home and Away Teams must be different.", client.send("START|Spain|Spain"));
+            assertEquals("ERROR|No match found with ID: unknown", client.send("FINISH|unknown"));
+            assertEquals("ERROR|Invalid score: x", client.send("UPDATE|unknown|x|1"));
+            assertEquals("ERROR|Expected 2 arguments for START", client.send("START|Spain"));
+            assertEquals("ERROR|Unknown command: KICKOFF", client.send("KICKOFF"));
+            assertTrue(client.send("START|Spain|Brazil").startsWith("OK|"));
+        }
+    }
+
+    @Test
+    void testStorageFailure_KeepsSessionOpen() throws IOException {
+        // Arrange
+        server.close();
+        server = new ScoreboardServer(new Scoreboard(new ConcurrentMatchStorage() {
+            @Override
+            public void saveMatch(Match match) {
+                if(match.getHomeTeam().equals("Broken")) {
+                    throw new UncheckedIOException("Journal append failed", new IOException("Disk full"));
+                }
+                super.saveMatch(match);
+            }
+        }), 0);
+
+        try (Client client = new Client(server.getPort())) {
+            // Act & Assert
+            assertEquals("ERROR|Journal append failed", client.send("START|Broken|Canada"));
+            assertTrue(client.send("START|Spain|Brazil").startsWith("OK|"));
+        }
+    }
+
+    @Test
+    void testConcurrentSessions() throws Exception {
+        // Arrange
+        int sessions = 50;
+        ExecutorService clients = Executors.newFixedThreadPool(sessions);
+        CountDownLatch connected = new CountDownLatch(sessions);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < sessions; i++) {
+            int index = i;
+            results.add(clients.submit(() -> {
+                try (Client client = new Client(server.getPort())) {
+                    connected.countDown();
+                    connected.await();
+                    String started = client.send("START|Home " + index + "|Away " + index);
+                    String matchId = started.substring("OK|".length());
+                    return client.send("UPDATE|" + matchId + "|" + index + "|0");
+                }
+            }));
+        }
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("OK", result.get());
+        }
+        clients.shutdown();
+        assertEquals(sessions, scoreboard.getMatchSummary().size());
+        assertEquals("1. Home 49 49 - Away 49 0", scoreboard.getMatchSummary().get(0));
+    }
+
+    @Test
+    void testSessionExecutor() {
+        // Act
+        ExecutorService executor = SessionExecutors.newSessionExecutor();
+
+        // Assert
+        assertNotNull(executor);
+        assertEquals(Runtime.version().feature() >= 21, SessionExecutors.virtualThreadsAvailable());
+        executor.shutdown();
+    }
+}
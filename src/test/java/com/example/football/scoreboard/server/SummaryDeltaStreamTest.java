@@ -0,0 +1,187 @@
+package com.example.football.scoreboard.server;
+
+import com.example.football.scoreboard.event.MatchEventPublisher;
+import com.example.football.scoreboard.id.MatchIdGenerator;
+import com.example.football.scoreboard.impl.ConcurrentMatchStorage;
+import com.example.football.scoreboard.impl.Scoreboard;
+import com.example.football.scoreboard.model.Match;
+import com.example.football.scoreboard.model.SummaryRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SummaryDeltaStreamTest {
+
+    private Scoreboard scoreboard;
+
+    private SummaryDeltaStream stream;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard(new ConcurrentMatchStorage());
+        stream = new SummaryDeltaStream(scoreboard, Duration.ofMillis(50), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void testDeltaFrame_OnlyChangedRows() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2024, 6, 1, 15, 0);
+        List<SummaryRow> previous = List.of(
+                new SummaryRow(1, "m1", "Spain", "Brazil", 1, 0, start),
+                new SummaryRow(2, "m2", "Mexico", "Canada", 0, 0, start),
+                new SummaryRow(3, "m3", "Germany", "France", 0, 0, start));
+        List<SummaryRow> current = List.of(
+                new SummaryRow(1, "m1", "Spain", "Brazil", 1, 0, start),
+                new SummaryRow(2, "m3", "Germany", "France", 1, 0, start));
+
+        // Act
+        String frame = SummaryDeltaStream.deltaFrame(5, previous, current);
+
+        // Assert
+        assertEquals("id: 5\nevent: delta\ndata: {\"version\":5,\"size\":2,\"rows\":[{\"matchId\":\"m3\",\"rank\":2,"
+                + "\"previousRank\":3,\"homeTeam\":\"Germany\",\"awayTeam\":\"France\",\"homeTeamScore\":1,"
+                + "\"awayTeamScore\":0,\"line\":\"2. Germany 1 - France 0\"}],\"removed\":[\"m2\"]}\n\n", frame);
+    }
+
+    @Test
+    void testDeltaFrame_KeyedByMatchId() {
+        // Arrange: same lines at the same ranks, but played by different matches
+        LocalDateTime start = LocalDateTime.of(2024, 6, 1, 15, 0);
+        List<SummaryRow> previous = List.of(
+                new SummaryRow(1, "m1", "Spain", "Brazil", 0, 0, start),
+                new SummaryRow(2, "m2", "Mexico", "Canada", 0, 0, start));
+        List<SummaryRow> current = List.of(
+                new SummaryRow(1, "m2", "Mexico", "Canada", 0, 0, start),
+                new SummaryRow(2, "m4", "Spain", "Brazil", 0, 0, start));
+
+        // Act
+        String frame = SummaryDeltaStream.deltaFrame(7, previous, current);
+
+        // Assert
+        assertTrue(frame.contains("{\"matchId\":\"m2\",\"rank\":1,\"previousRank\":2,"));
+        assertTrue(frame.contains("{\"matchId\":\"m4\",\"rank\":2,\"previousRank\":null,"));
+        assertTrue(frame.endsWith("\"removed\":[\"m1\"]}\n\n"));
+    }
+
+    @Test
+    void testDeltaFrame_NothingChanged() {
+        // Arrange
+        List<SummaryRow> rows = List.of(new SummaryRow(1, "m1", "Spain", "Brazil", 1, 0, LocalDateTime.of(2024, 6, 1, 15, 0)));
+
+        // Act
+        String frame = SummaryDeltaStream.deltaFrame(2, rows, rows);
+
+        // Assert
+        assertEquals("id: 2\nevent: delta\ndata: {\"version\":2,\"size\":1,\"rows\":[],\"removed\":[]}\n\n", frame);
+    }
+
+    @Test
+    void testConnect_StartsWithFullSummary() throws InterruptedException {
+        // Arrange
+        scoreboard.startMatch("Mexico", "Canada");
+        stream.broadcast();
+
+        // Act
+        SummaryDeltaStream.Client client = stream.connect();
+
+        // Assert
+        String frame = client.nextFrame(Duration.ofSeconds(1));
+        assertTrue(frame.contains("event: summary\n"));
+        assertTrue(frame.contains("\"matches\":[\"1. Mexico 0 - Canada 0\"]"));
+        assertEquals(1, stream.getClientCount());
+    }
+
+    @Test
+    void testBurstCoalescedIntoFewFrames() throws InterruptedException {
+        // Arrange
+        Match match = scoreboard.startMatch("Mexico", "Canada");
+        SummaryDeltaStream.Client client = stream.connect();
+        client.nextFrame(Duration.ofSeconds(1));
+
+        // Act
+        for (int goal = 1; goal <= 100; goal++) {
+            scoreboard.updateMatchScore(match.getMatchId(), goal, 0);
+        }
+
+        // Assert
+        List<String> frames = new ArrayList<>();
+        String frame;
+        while ((frame = client.nextFrame(Duration.ofMillis(500))) != null) {
+            frames.add(frame);
+        }
+        assertTrue(!frames.isEmpty() && frames.size() < 10, "Expected the burst to be coalesced, frames: " + frames.size());
+        assertTrue(frames.get(frames.size() - 1).contains("1. Mexico 100 - Canada 0"));
+    }
+
+    @Test
+    void testSlowClient_ResynchronisedWithFullSummary() throws InterruptedException {
+        // Arrange
+        Match match = scoreboard.startMatch("Mexico", "Canada");
+        stream.broadcast();
+        SummaryDeltaStream.Client client = stream.connect();
+
+        // Act: more frames than the queue holds, without the client reading
+        for (int goal = 1; goal <= 10; goal++) {
+            scoreboard.updateMatchScore(match.getMatchId(), goal, 0);
+            stream.broadcast();
+        }
+
+        // Assert
+        String first = client.nextFrame(Duration.ofSeconds(1));
+        assertNotNull(first);
+        assertTrue(first.contains("event: summary\n"), "Overflowing client should restart from a full summary");
+        List<String> rest = new ArrayList<>();
+        String frame;
+        while ((frame = client.nextFrame(Duration.ofMillis(200))) != null) {
+            rest.add(frame);
+        }
+        String last = rest.isEmpty() ? first : rest.get(rest.size() - 1);
+        assertTrue(last.contains("1. Mexico 10 - Canada 0"));
+    }
+
+    @Test
+    void testClose_CancelsScoreboardSubscription() {
+        // Arrange
+        MatchEventPublisher publisher = new MatchEventPublisher();
+        Scoreboard publishingScoreboard = new Scoreboard(new ConcurrentMatchStorage(), MatchIdGenerator.defaultGenerator(), publisher);
+        SummaryDeltaStream publishingStream = new SummaryDeltaStream(publishingScoreboard, Duration.ofMillis(50), 4);
+
+        // Act
+        publishingStream.close();
+
+        // Assert
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void testDisconnect() throws InterruptedException {
+        // Arrange
+        SummaryDeltaStream.Client client = stream.connect();
+        client.nextFrame(Duration.ofSeconds(1));
+
+        // Act
+        stream.disconnect(client);
+        scoreboard.startMatch("Mexico", "Canada");
+        stream.broadcast();
+
+        // Assert
+        assertNull(client.nextFrame(Duration.ofMillis(100)));
+        assertEquals(0, stream.getClientCount());
+    }
+}